@@ -0,0 +1,20 @@
+#!/bin/sh
+# Runs the fast-start build (mvn -Pfast-start package) with AOT initialization and an application CDS archive.
+# The first run extracts the jar and does a training run that starts the context (it needs the real database,
+# like a normal start), exits after refresh and dumps the loaded classes to the archive. Later runs reuse it until
+# the jar changes.
+#   scripts/fast-start.sh [--server.port=8081 ...]
+set -e
+cd "$(dirname "$0")/.."
+JAR=$(ls target/unbound-platform-*.jar | head -n 1)
+DIR=target/fast-start
+APP="$DIR/$(basename "$JAR")"
+FLAGS="-Dspring.aot.enabled=true -Dspring.profiles.active=fast-start"
+
+if [ ! -f "$DIR/app.jsa" ] || [ "$JAR" -nt "$DIR/app.jsa" ]; then
+    rm -rf "$DIR"
+    java -Djarmode=tools -jar "$JAR" extract --destination "$DIR"
+    java -XX:ArchiveClassesAtExit="$DIR/app.jsa" -Dspring.context.exit=onRefresh $FLAGS -jar "$APP" "$@"
+fi
+
+exec java -XX:SharedArchiveFile="$DIR/app.jsa" $FLAGS $JAVA_OPTS -jar "$APP" "$@"
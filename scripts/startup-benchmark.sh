@@ -0,0 +1,59 @@
+#!/bin/sh
+# Compares the plain jar with the fast-start mode (AOT + CDS + lazy beans): time from launch to the first
+# successful request (GET /actuator/health) and resident memory at that point, median of RUNS starts each.
+# Build first with: mvn -Pfast-start package -DskipTests
+#   RUNS=5 PORT=18081 scripts/startup-benchmark.sh [app args, e.g. --spring.datasource.url=...]
+set -e
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-5}
+PORT=${PORT:-18081}
+JAR=$(ls target/unbound-platform-*.jar | head -n 1)
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the command in the background, waits for the health check and prints "<ms> <rss KiB>"
+measure() {
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > target/startup-benchmark.log 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited, see target/startup-benchmark.log" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(ps -o rss= -p "$pid" | tr -d ' ')
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$elapsed $rss"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+report() {
+    label=$1
+    shift
+    results=""
+    i=0
+    while [ "$i" -lt "$RUNS" ]; do
+        results="$results$(measure "$@")
+"
+        i=$((i + 1))
+    done
+    ttfr=$(printf "%s" "$results" | awk '{ print $1 }' | median)
+    rss=$(printf "%s" "$results" | awk '{ print $2 }' | median)
+    printf "%-12s %14s ms %12s MiB\n" "$label" "$ttfr" "$((rss / 1024))"
+}
+
+# Creates the CDS archive before timing anything
+scripts/fast-start.sh --server.port="$PORT" --spring.context.exit=onRefresh "$@" > /dev/null 2>&1 || true
+
+printf "%-12s %17s %16s\n" "mode" "first request" "rss"
+report default java -jar "$JAR" "$@"
+report fast-start scripts/fast-start.sh "$@"
@@ -0,0 +1,72 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.config.AdmissionControlFilter.Priority;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Registers AdmissionControlFilter first in the chain (before SQL profiling and Spring Security), so a shed request
+// costs neither a JWT lookup nor a database connection
+@Configuration
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+    @Value("${admission.critical.routes:/api/payments/**,/api/student/events/register,/api/auth/**}")
+    private List<String> criticalRoutes;
+    @Value("${admission.critical.maxConcurrent:16}")
+    private int criticalMaxConcurrent;
+    @Value("${admission.critical.targetLatencyMs:1000}")
+    private long criticalTargetLatencyMs;
+    @Value("${admission.standard.maxConcurrent:12}")
+    private int standardMaxConcurrent;
+    @Value("${admission.standard.targetLatencyMs:800}")
+    private long standardTargetLatencyMs;
+    @Value("${admission.sheddable.routes:/api/explore/**,/api/events/*/stats,/api/events/*/rating,/api/events/*/reviews}")
+    private List<String> sheddableRoutes;
+    @Value("${admission.sheddable.maxConcurrent:8}")
+    private int sheddableMaxConcurrent;
+    @Value("${admission.sheddable.targetLatencyMs:300}")
+    private long sheddableTargetLatencyMs;
+    @Value("${admission.exemptRoutes:/actuator/**,/api/health,/api/college/export/**}")
+    private List<String> exemptRoutes;
+    @Value("${admission.minConcurrent:4}")
+    private int minConcurrent;
+    @Value("${admission.retryAfterSeconds:2}")
+    private long retryAfterSeconds;
+    @Value("${server.tomcat.threads.max:200}")
+    private int tomcatThreads;
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int poolSize;
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        // An admitted request may take a Tomcat thread and a pooled connection; if the classes together admit more than
+        // either, requests queue for them again and the limits shed nothing
+        int admitted = criticalMaxConcurrent + standardMaxConcurrent + sheddableMaxConcurrent;
+        if (admitted > tomcatThreads || admitted > poolSize) {
+            throw new IllegalStateException("admission maxConcurrent limits add up to " + admitted + ", more than server.tomcat.threads.max ("
+                    + tomcatThreads + ") or the connection pool (" + poolSize + ")");
+        }
+        Map<Priority, AimdLimit> limits = new EnumMap<>(Priority.class);
+        limits.put(Priority.CRITICAL, new AimdLimit(minConcurrent, criticalMaxConcurrent, criticalTargetLatencyMs));
+        limits.put(Priority.STANDARD, new AimdLimit(minConcurrent, standardMaxConcurrent, standardTargetLatencyMs));
+        limits.put(Priority.SHEDDABLE, new AimdLimit(minConcurrent, sheddableMaxConcurrent, sheddableTargetLatencyMs));
+        Map<Priority, List<String>> routes = new EnumMap<>(Priority.class);
+        routes.put(Priority.CRITICAL, criticalRoutes);
+        routes.put(Priority.SHEDDABLE, sheddableRoutes);
+        AdmissionControlFilter filter = new AdmissionControlFilter(limits, routes, exemptRoutes, retryAfterSeconds,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+}
@@ -0,0 +1,101 @@
+package com.unbound.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Admission control ahead of everything else: each priority class has its own adaptive concurrency limit, and a
+// request over its class's limit gets 503 with Retry-After straight away instead of waiting for a Tomcat thread or
+// a pooled connection. When a class runs slower than its target the classes below it back off too, so explore and
+// stats polling are shed before dashboards, and dashboards before payments and registration.
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    public enum Priority { CRITICAL, STANDARD, SHEDDABLE }
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+    private static final String BUSY_BODY = "{\"error\":\"Server is busy, please retry shortly\"}";
+
+    private final Map<Priority, AimdLimit> limits;
+    private final Map<Priority, List<String>> routes;
+    private final List<String> exempt;
+    private final long retryAfterSeconds;
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    // routes: path patterns per class; requests matching none of them are STANDARD
+    public AdmissionControlFilter(Map<Priority, AimdLimit> limits, Map<Priority, List<String>> routes, List<String> exempt,
+                                  long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.routes = routes;
+        this.exempt = exempt;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (Priority priority : Priority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            AimdLimit limit = limits.get(priority);
+            Gauge.builder("admission.limit", limit, AimdLimit::getLimit).tag("priority", tag).register(meterRegistry);
+            Gauge.builder("admission.inflight", limit, AimdLimit::getInFlight).tag("priority", tag).register(meterRegistry);
+            rejected.put(priority, Counter.builder("admission.rejected").tag("priority", tag).register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || matchesAny(exempt, path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Priority priority = classify(path(request));
+        AimdLimit limit = limits.get(priority);
+        if (!limit.tryAcquire()) {
+            rejected.get(priority).increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write(BUSY_BODY);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (limit.release(System.nanoTime() - start)) {
+                for (Priority lower : Priority.values()) {
+                    if (lower.ordinal() > priority.ordinal()) limits.get(lower).backOff();
+                }
+            }
+        }
+    }
+
+    Priority classify(String path) {
+        for (Priority priority : Priority.values()) {
+            if (matchesAny(routes.getOrDefault(priority, List.of()), path)) return priority;
+        }
+        return Priority.STANDARD;
+    }
+
+    private static boolean matchesAny(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (MATCHER.match(pattern, path)) return true;
+        }
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,62 @@
+package com.unbound.backend.config;
+
+// Adaptive concurrency limit (additive increase, multiplicative decrease) driven by request latency: a request that
+// takes longer than the target cuts the limit by 10% (at most once per target interval, so one slow burst counts
+// once); a fast request while at least half the limit is in use raises it by 1/limit, i.e. by one per limit's worth
+// of fast requests. Starts at the maximum.
+public class AimdLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetNanos;
+    private double limit;
+    private int inFlight = 0;
+    private long lastBackoffAt = Long.MIN_VALUE;
+
+    public AimdLimit(int minLimit, int maxLimit, long targetLatencyMillis) {
+        this.minLimit = minLimit;
+        this.maxLimit = Math.max(minLimit, maxLimit);
+        this.targetNanos = targetLatencyMillis * 1_000_000L;
+        this.limit = this.maxLimit;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    // Called once for every acquired permit, with how long the request took; true when the request was over target
+    public synchronized boolean release(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos > targetNanos) {
+            backOff();
+            return true;
+        }
+        if (inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+        return false;
+    }
+
+    // Also called when a higher-priority class is over its target, so lower classes give way first
+    public synchronized void backOff() {
+        long now = System.nanoTime();
+        if (lastBackoffAt != Long.MIN_VALUE && now - lastBackoffAt < targetNanos) {
+            return;
+        }
+        lastBackoffAt = now;
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
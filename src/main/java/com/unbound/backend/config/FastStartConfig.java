@@ -0,0 +1,69 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.service.PaymentGatewayClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+// Startup only creates what serves traffic: the mail sender, the payment gateway client and springdoc's beans are
+// created on first use (their injection points are @Lazy), and warmed on a background thread once the app is ready.
+// Under AOT the lazy flags are decided at build time, so build with the same startup.lazyNonCriticalBeans value.
+@Configuration
+@ConditionalOnProperty(name = "startup.lazyNonCriticalBeans", havingValue = "true")
+public class FastStartConfig {
+    private static final Logger log = LoggerFactory.getLogger(FastStartConfig.class);
+
+    @Bean
+    static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isNonCritical(beanFactory, name, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    static boolean isNonCritical(ConfigurableListableBeanFactory beanFactory, String name, BeanDefinition definition) {
+        if ("mailSender".equals(name)) return true;
+        Class<?> type = beanFactory.getType(name, false);
+        if (type != null && PaymentGatewayClient.class.isAssignableFrom(type)) return true;
+        String source = definition instanceof AnnotatedBeanDefinition annotated && annotated.getFactoryMethodMetadata() != null
+                ? annotated.getFactoryMethodMetadata().getDeclaringClassName()
+                : definition.getBeanClassName();
+        return source != null && source.startsWith("org.springdoc.");
+    }
+
+    @Bean
+    ApplicationListener<ApplicationReadyEvent> warmUpNonCriticalBeans(ObjectProvider<PaymentGatewayClient> paymentGatewayClient,
+                                                                      ObjectProvider<JavaMailSender> mailSender) {
+        return event -> {
+            Thread thread = new Thread(() -> {
+                long start = System.currentTimeMillis();
+                try {
+                    paymentGatewayClient.getIfAvailable();
+                    if (mailSender.getIfAvailable() instanceof JavaMailSenderImpl sender) {
+                        sender.getSession(); // loads the mail providers
+                    }
+                    log.info("Warmed lazy beans in {} ms", System.currentTimeMillis() - start);
+                } catch (RuntimeException e) {
+                    log.warn("Warm-up of lazy beans failed: {}", e.getMessage());
+                }
+            }, "startup-warmup");
+            thread.setDaemon(true);
+            thread.start();
+        };
+    }
+}
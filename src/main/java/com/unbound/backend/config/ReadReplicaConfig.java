@@ -0,0 +1,80 @@
+package com.unbound.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// Active only when datasource.replica.urls is set; otherwise Spring Boot's single datasource is used unchanged
+@Configuration
+@ConditionalOnExpression("'${datasource.replica.urls:}' != ''")
+public class ReadReplicaConfig {
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+    @Value("${datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+    @Value("${datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+    @Value("${datasource.replica.maxLagSeconds:5}")
+    private long maxLagSeconds;
+    @Value("${datasource.replica.stickyMs:10000}")
+    private long stickyMs;
+    @Value("${datasource.replica.lagQuery:SHOW REPLICA STATUS}")
+    private String lagQuery;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            // Same pool settings and driver properties as the primary
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setUsername(replicaUsername);
+            config.setPassword(replicaPassword);
+            config.setPoolName("replica-" + i);
+            config.setReadOnly(true);
+            // Replica pools are not beans, so Boot's pool metrics binder never sees them
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, ReadReplicaConfig::currentCaller,
+                maxLagSeconds, stickyMs, lagQuery);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    // Read-your-writes is tracked per authenticated user; anonymous and background work has no stickiness
+    private static String currentCaller() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) return null;
+        return auth.getName();
+    }
+}
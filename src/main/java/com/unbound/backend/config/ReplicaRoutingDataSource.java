@@ -0,0 +1,166 @@
+package com.unbound.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Sends read-only transactions to a healthy, caught-up replica and everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy: the read-only flag is only known once the transaction has started.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Supplier<String> callerKey;
+    private final long maxLagSeconds;
+    private final long stickyMs;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+    // Callers who committed a write recently read from the primary until the replicas have caught up
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+    // Transaction resource key marking that this transaction's write has already been tracked
+    private final Object writeTrackedKey = new Object();
+
+    private static final class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources, Supplier<String> callerKey,
+                                    long maxLagSeconds, long stickyMs, String lagQuery) {
+        this.callerKey = callerKey;
+        this.maxLagSeconds = maxLagSeconds;
+        this.stickyMs = stickyMs;
+        this.lagQuery = lagQuery;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            Replica replica = new Replica("replica-" + i, replicaDataSources.get(i));
+            replicas.add(replica);
+            targets.put(replica.key, replica.dataSource);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String caller = callerKey.get();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(caller);
+            return PRIMARY;
+        }
+        if (caller != null && isSticky(caller)) return PRIMARY;
+        // Until the first health check passes, or when every replica is down or lagging, reads stay on the primary
+        int size = replicas.size();
+        if (size == 0) return PRIMARY;
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) return replica.key;
+        }
+        return PRIMARY;
+    }
+
+    private void trackWrite(String caller) {
+        if (caller == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeTrackedKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeTrackedKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickyUntil.put(caller, System.currentTimeMillis() + stickyMs);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeTrackedKey);
+            }
+        });
+    }
+
+    private boolean isSticky(String caller) {
+        Long until = stickyUntil.get(caller);
+        if (until == null) return false;
+        if (until > System.currentTimeMillis()) return true;
+        stickyUntil.remove(caller, until);
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.healthCheckIntervalMs:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean available;
+            try {
+                Long lag = readLagSeconds(replica.dataSource);
+                available = lag != null && lag <= maxLagSeconds;
+                if (!available && replica.available) {
+                    log.warn("Replica {} lagging ({}s behind, max {}s); routing reads to primary", replica.key, lag, maxLagSeconds);
+                }
+            } catch (SQLException e) {
+                available = false;
+                if (replica.available) log.warn("Replica {} unreachable; routing reads to primary: {}", replica.key, e.getMessage());
+            }
+            if (available && !replica.available) log.info("Replica {} available for reads", replica.key);
+            replica.available = available;
+        }
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+
+    // Replication delay in seconds, or null when the server is not replicating (no row, or a stopped SQL thread)
+    private Long readLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(2);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) return null;
+                int column = 1;
+                ResultSetMetaData meta = rs.getMetaData();
+                for (int i = 1; i <= meta.getColumnCount(); i++) {
+                    String label = meta.getColumnLabel(i);
+                    if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                        column = i;
+                        break;
+                    }
+                }
+                long lag = rs.getLong(column);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.unbound.backend.config;
 import com.unbound.backend.service.JwtService;
 import com.unbound.backend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -16,6 +18,7 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -27,6 +30,10 @@ public class SecurityConfig {
     private JwtService jwtService;
     @Autowired
     private UserRepository userRepository;
+    @Value("${server.port:8080}")
+    private int serverPort;
+    @Value("${management.server.port:-1}")
+    private int managementPort;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
@@ -59,9 +66,12 @@ public class SecurityConfig {
             .cors(cors -> {})
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
            .authorizeHttpRequests(auth -> auth
+            // Streaming responses (CSV export) finish on an async dispatch of an already-authorized request
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/api/auth/**",
                 "/api/health",
+                "/actuator/health",
                 "/v3/api-docs/**",
                 "/swagger-ui/**",
                 "/swagger-ui.html",
@@ -69,9 +79,12 @@ public class SecurityConfig {
                 "/webjars/**",
                 "/api/explore/events",
                 "/api/explore/fests",
+                "/api/payments/webhook",
                 "/api/events/*/stats", 
                 "/api/events/*/rating"
             ).permitAll()
+            // The Prometheus scrape is open only on the internal management port, never on the public one
+            .requestMatchers(onManagementPort()).permitAll()
             .anyRequest().authenticated()
         )
 
@@ -81,6 +94,11 @@ public class SecurityConfig {
         return http.build();
     }
 
+    private RequestMatcher onManagementPort() {
+        boolean separatePort = managementPort > 0 && managementPort != serverPort;
+        return request -> separatePort && request.getLocalPort() == managementPort;
+    }
+
     @Bean
     public WebMvcConfigurer corsConfigurer() {
         return new WebMvcConfigurer() {
@@ -94,7 +112,8 @@ public class SecurityConfig {
                 registry.addMapping("/**")
                     .allowedOrigins("*")       // Allow all origins
                     .allowedMethods("*")       // Allow all HTTP methods (GET, POST, etc.)
-                    .allowedHeaders("*");      // Allow all headers
+                    .allowedHeaders("*")       // Allow all headers
+                    .exposedHeaders("X-Next-Cursor", "Server-Timing"); // Keyset pagination cursor; per-request SQL profile
             }
         };
     }
@@ -0,0 +1,31 @@
+package com.unbound.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Adds the request's SQL profile as a Server-Timing header just before the body is written, i.e. after the handler's
+// database work and before the response is committed. Streamed bodies (CSV exports) report only the work done before
+// streaming started.
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlProfile profile = SqlProfile.current();
+        if (profile != null) response.getHeaders().add("Server-Timing", profile.serverTiming());
+        return body;
+    }
+}
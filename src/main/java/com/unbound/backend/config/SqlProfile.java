@@ -0,0 +1,118 @@
+package com.unbound.backend.config;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+// What one request cost the database: statements, total time in JDBC, the slowest statement and the entities
+// Hibernate loaded. Bound to the request thread by SqlProfilingFilter; work handed to another thread joins the
+// request's profile through propagate().
+public final class SqlProfile {
+    private static final ThreadLocal<SqlProfile> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long nanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private int entityLoads;
+    // Keyed by the SQL as run (Hibernate binds parameters as ?), so the hot path does no normalizing; only the slow
+    // request log fingerprints them
+    private final Map<String, Integer> countsBySql = new HashMap<>();
+
+    public static SqlProfile start() {
+        SqlProfile profile = new SqlProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    public static SqlProfile current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // Runs the call with the caller's profile bound, so statements on a worker thread count towards the request
+    public static <T> Supplier<T> propagate(Supplier<T> call) {
+        SqlProfile profile = CURRENT.get();
+        if (profile == null) return call;
+        return () -> {
+            SqlProfile previous = CURRENT.get();
+            CURRENT.set(profile);
+            try {
+                return call.get();
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+            }
+        };
+    }
+
+    synchronized void recordStatement(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (elapsedNanos >= slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = sql;
+        }
+        countsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    synchronized void recordEntityLoad() {
+        entityLoads++;
+    }
+
+    public synchronized int statements() {
+        return statements;
+    }
+
+    public synchronized double millis() {
+        return nanos / 1_000_000.0;
+    }
+
+    public synchronized double slowestMillis() {
+        return slowestNanos / 1_000_000.0;
+    }
+
+    public synchronized String slowestSql() {
+        return slowestSql;
+    }
+
+    public synchronized int entityLoads() {
+        return entityLoads;
+    }
+
+    // The statement shape run most often in this request, with its count; a high count is usually an N+1
+    public Map.Entry<String, Integer> mostRepeated() {
+        Map<String, Integer> bySql;
+        synchronized (this) {
+            bySql = new HashMap<>(countsBySql);
+        }
+        Map<String, Integer> byFingerprint = new HashMap<>();
+        bySql.forEach((sql, count) -> byFingerprint.merge(fingerprint(sql), count, Integer::sum));
+        return byFingerprint.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+    }
+
+    // Value of the Server-Timing header (shown per request in the browser's network tab)
+    public synchronized String serverTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements\", db-slowest;dur=%.1f, entities;desc=\"%d loaded\"",
+                millis(), statements, slowestMillis(), entityLoads);
+    }
+
+    // The statement with literals and IN-list lengths taken out, so the same query from different requests groups
+    public static String fingerprint(String sql) {
+        if (sql == null) return "";
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?+)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,78 @@
+package com.unbound.backend.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// Per-request SQL profiling (replaces spring.jpa.show-sql): statement timings come from a proxy around the
+// application DataSource, entity loads from a Hibernate interceptor, and SqlProfilingFilter ties them to the request.
+// Only the "dataSource" bean is wrapped; with read replicas that is the routing proxy, so each statement counts once.
+@Configuration
+@ConditionalOnProperty(name = "sql.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfig {
+    private static final String STARTED_AT = "sqlProfile.startedAt";
+
+    @Bean
+    static BeanPostProcessor sqlProfilingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) return bean;
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new QueryExecutionListener() {
+                            @Override
+                            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+                            }
+
+                            @Override
+                            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                                SqlProfile profile = SqlProfile.current();
+                                Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+                                if (profile == null || startedAt == null || queryInfoList.isEmpty()) return;
+                                profile.recordStatement(queryInfoList.get(0).getQuery(), System.nanoTime() - startedAt);
+                            }
+                        })
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer entityLoadCounter() {
+        Interceptor interceptor = new Interceptor() {
+            @Override
+            public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+                SqlProfile profile = SqlProfile.current();
+                if (profile != null) profile.recordEntityLoad();
+                return false;
+            }
+        };
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, interceptor);
+    }
+
+    @Bean
+    FilterRegistrationBean<SqlProfilingFilter> sqlProfilingFilter(@Value("${sql.profiling.slowRequestMs:200}") long slowRequestMs,
+                                                                  @Value("${sql.profiling.sampleRate:0.1}") double sampleRate) {
+        FilterRegistrationBean<SqlProfilingFilter> registration =
+                new FilterRegistrationBean<>(new SqlProfilingFilter(slowRequestMs, sampleRate));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,66 @@
+package com.unbound.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Profiles every request's database work (see SqlProfile) and logs a sample of the requests whose DB time reaches
+// slowRequestMs, with the fingerprints of the slowest and the most repeated statement. Registered ahead of Spring
+// Security so the JWT filter's user lookup is included.
+public class SqlProfilingFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(SqlProfilingFilter.class);
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final long slowRequestMs;
+    private final double sampleRate;
+
+    public SqlProfilingFilter(long slowRequestMs, double sampleRate) {
+        this.slowRequestMs = slowRequestMs;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlProfile profile = SqlProfile.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlProfile.end();
+            if (profile.millis() >= slowRequestMs && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                logSlowRequest(request, response, profile);
+            }
+        }
+    }
+
+    private void logSlowRequest(HttpServletRequest request, HttpServletResponse response, SqlProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Map.Entry<String, Integer> repeated = profile.mostRepeated();
+        String slowest = SqlProfile.fingerprint(profile.slowestSql());
+        log.warn("Slow request {} {} {}: {} statements, {} ms in DB, {} entities loaded; slowest {} ms [{}] {}; most repeated x{} [{}] {}",
+                request.getMethod(), pattern != null ? pattern : request.getRequestURI(), response.getStatus(),
+                profile.statements(), String.format(Locale.ROOT, "%.1f", profile.millis()), profile.entityLoads(),
+                String.format(Locale.ROOT, "%.1f", profile.slowestMillis()), id(slowest), abbreviate(slowest),
+                repeated != null ? repeated.getValue() : 0, repeated != null ? id(repeated.getKey()) : "-",
+                repeated != null ? abbreviate(repeated.getKey()) : "");
+    }
+
+    // Short stable id to group log lines by statement shape
+    private static String id(String fingerprint) {
+        return String.format("%08x", fingerprint.hashCode());
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
@@ -19,9 +19,7 @@ public class CollegeController {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body("Forbidden: Only colleges can access this endpoint");
         }
-        College college = collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        College college = collegeRepository.findByUserUid(user.getUid()).orElse(null);
         if (college == null) {
             return ResponseEntity.notFound().build();
         }
@@ -33,9 +31,7 @@ public class CollegeController {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body("Forbidden: Only colleges can access this endpoint");
         }
-        College college = collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        College college = collegeRepository.findByUserUid(user.getUid()).orElse(null);
         if (college == null) {
             return ResponseEntity.notFound().build();
         }
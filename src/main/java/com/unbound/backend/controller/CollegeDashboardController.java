@@ -2,11 +2,10 @@ package com.unbound.backend.controller;
 
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Event;
-import com.unbound.backend.entity.Payment;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.repository.CollegeRepository;
 import com.unbound.backend.repository.EventRepository;
-import com.unbound.backend.repository.PaymentRepository;
+import com.unbound.backend.repository.EventRepository.EventStats;
 import com.unbound.backend.repository.EventRegistrationRepository;
 import com.unbound.backend.entity.User;
 import com.unbound.backend.entity.Fest;
@@ -37,8 +36,6 @@ public class CollegeDashboardController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private PaymentRepository paymentRepository;
-    @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private FestRepository festRepository;
@@ -48,9 +45,7 @@ public class CollegeDashboardController {
     private CollegeDashboardService collegeDashboardService;
 
     private College getCollegeForUser(User user) {
-        return collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return collegeRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     @GetMapping("/earnings")
@@ -60,18 +55,11 @@ public class CollegeDashboardController {
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
-        List<Event> events = eventRepository.findByCollege(college);
-        List<Payment> payments = events.stream()
-                .flatMap(e -> paymentRepository.findAll().stream()
-                        .filter(p -> p.getEventRegistration().getEvent().getEid().equals(e.getEid()) && "paid".equalsIgnoreCase(p.getStatus())))
-                .collect(Collectors.toList());
-        int totalEarnings = payments.stream().mapToInt(Payment::getAmount).sum();
+        long totalEarnings = 0;
         Map<String, Object> breakdown = new HashMap<>();
-        for (Event event : events) {
-            int eventEarnings = payments.stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()))
-                    .mapToInt(Payment::getAmount).sum();
-            breakdown.put(event.getEname(), eventEarnings);
+        for (EventStats event : eventRepository.findStatsByCollege(college)) {
+            totalEarnings += event.getEarnings();
+            breakdown.put(event.getEventName(), event.getEarnings());
         }
         return ResponseEntity.ok(Map.of(
                 "totalEarnings", totalEarnings,
@@ -86,28 +74,24 @@ public class CollegeDashboardController {
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
-        List<Event> events = eventRepository.findByCollege(college);
-        List<EventRegistration> allRegs = events.stream()
-                .flatMap(e -> eventRegistrationRepository.findByEvent(e).stream())
-                .collect(Collectors.toList());
-        int totalRegistrations = allRegs.size();
-        long paidRegistrations = allRegs.stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count();
-        long unpaidRegistrations = allRegs.stream().filter(r -> !"paid".equalsIgnoreCase(r.getPaymentStatus())).count();
+        long totalRegistrations = 0;
+        long paidRegistrations = 0;
         Map<String, Object> eventWise = new HashMap<>();
-        for (Event event : events) {
-            long eventTotal = allRegs.stream().filter(r -> r.getEvent().getEid().equals(event.getEid())).count();
-            long eventPaid = allRegs.stream().filter(r -> r.getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(r.getPaymentStatus())).count();
-            long eventUnpaid = allRegs.stream().filter(r -> r.getEvent().getEid().equals(event.getEid()) && !"paid".equalsIgnoreCase(r.getPaymentStatus())).count();
-            eventWise.put(event.getEname(), Map.of(
+        for (EventStats event : eventRepository.findStatsByCollege(college)) {
+            long eventTotal = event.getRegistrations();
+            long eventPaid = event.getPaidRegistrations();
+            totalRegistrations += eventTotal;
+            paidRegistrations += eventPaid;
+            eventWise.put(event.getEventName(), Map.of(
                 "total", eventTotal,
                 "paid", eventPaid,
-                "unpaid", eventUnpaid
+                "unpaid", eventTotal - eventPaid
             ));
         }
         return ResponseEntity.ok(Map.of(
             "totalRegistrations", totalRegistrations,
             "paidRegistrations", paidRegistrations,
-            "unpaidRegistrations", unpaidRegistrations,
+            "unpaidRegistrations", totalRegistrations - paidRegistrations,
             "eventWise", eventWise
         ));
     }
@@ -119,22 +103,20 @@ public class CollegeDashboardController {
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
-        List<Fest> fests = festRepository.findByCollege(college);
+        // {registrations, earnings} per fest id; events outside a fest are not counted
+        Map<Integer, long[]> totalsByFest = new HashMap<>();
+        for (EventStats event : eventRepository.findStatsByCollege(college)) {
+            if (event.getFestId() == null) continue;
+            long[] totals = totalsByFest.computeIfAbsent(event.getFestId(), fid -> new long[2]);
+            totals[0] += event.getRegistrations();
+            totals[1] += event.getEarnings();
+        }
         Map<String, Object> festStats = new HashMap<>();
-        for (Fest fest : fests) {
-            List<Event> festEvents = eventRepository.findByFest(fest);
-            int festRegistrations = 0;
-            int festEarnings = 0;
-            for (Event event : festEvents) {
-                List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-                festRegistrations += regs.size();
-                festEarnings += paymentRepository.findAll().stream()
-                        .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                        .mapToInt(Payment::getAmount).sum();
-            }
+        for (Fest fest : festRepository.findByCollege(college)) {
+            long[] totals = totalsByFest.getOrDefault(fest.getFid(), new long[2]);
             festStats.put(fest.getFname(), Map.of(
-                "registrations", festRegistrations,
-                "earnings", festEarnings
+                "registrations", totals[0],
+                "earnings", totals[1]
             ));
         }
         return ResponseEntity.ok(festStats);
@@ -147,18 +129,11 @@ public class CollegeDashboardController {
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
-        List<Event> events = eventRepository.findByCollege(college);
-        Map<String, Map<String, Object>> dateStats = new HashMap<>();
-        for (Event event : events) {
-            String date = event.getEventDate();
-            dateStats.putIfAbsent(date, new HashMap<>());
-            Map<String, Object> stats = dateStats.get(date);
-            int regCount = eventRegistrationRepository.findByEvent(event).size();
-            int earnings = paymentRepository.findAll().stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                    .mapToInt(Payment::getAmount).sum();
-            stats.put("registrations", ((int) stats.getOrDefault("registrations", 0)) + regCount);
-            stats.put("earnings", ((int) stats.getOrDefault("earnings", 0)) + earnings);
+        Map<String, Map<String, Long>> dateStats = new HashMap<>();
+        for (EventStats event : eventRepository.findStatsByCollege(college)) {
+            Map<String, Long> stats = dateStats.computeIfAbsent(event.getEventDate(), date -> new HashMap<>());
+            stats.merge("registrations", event.getRegistrations(), Long::sum);
+            stats.merge("earnings", event.getEarnings(), Long::sum);
         }
         return ResponseEntity.ok(dateStats);
     }
@@ -170,28 +145,18 @@ public class CollegeDashboardController {
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
-        List<Event> events = eventRepository.findByCollege(college);
-        List<Map<String, Object>> eventStats = new ArrayList<>();
-        for (Event event : events) {
-            int regCount = eventRegistrationRepository.findByEvent(event).size();
-            int earnings = paymentRepository.findAll().stream()
-                    .filter(p -> p.getEventRegistration().getEvent().getEid().equals(event.getEid()) && "paid".equalsIgnoreCase(p.getStatus()))
-                    .mapToInt(Payment::getAmount).sum();
-            eventStats.add(Map.of(
-                "eventName", event.getEname(),
-                "registrations", regCount,
-                "earnings", earnings
-            ));
-        }
+        List<EventStats> events = eventRepository.findStatsByCollege(college);
         // Top 5 by registrations
-        List<Map<String, Object>> topByRegistrations = eventStats.stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("registrations"), (int) a.get("registrations")))
+        List<Map<String, Object>> topByRegistrations = events.stream()
+                .sorted(Comparator.comparing(EventStats::getRegistrations).reversed())
                 .limit(5)
+                .map(CollegeDashboardController::topEvent)
                 .collect(Collectors.toList());
         // Top 5 by earnings
-        List<Map<String, Object>> topByEarnings = eventStats.stream()
-                .sorted((a, b) -> Integer.compare((int) b.get("earnings"), (int) a.get("earnings")))
+        List<Map<String, Object>> topByEarnings = events.stream()
+                .sorted(Comparator.comparing(EventStats::getEarnings).reversed())
                 .limit(5)
+                .map(CollegeDashboardController::topEvent)
                 .collect(Collectors.toList());
         return ResponseEntity.ok(Map.of(
             "topByRegistrations", topByRegistrations,
@@ -199,8 +164,17 @@ public class CollegeDashboardController {
         ));
     }
 
+    private static Map<String, Object> topEvent(EventStats event) {
+        return Map.of(
+            "eventName", event.getEventName(),
+            "registrations", event.getRegistrations(),
+            "earnings", event.getEarnings()
+        );
+    }
+
     @GetMapping("/events/{eventId}/registrations")
-    public ResponseEntity<?> getEventRegistrations(@AuthenticationPrincipal User user, @PathVariable Integer eventId) {
+    public ResponseEntity<?> getEventRegistrations(@AuthenticationPrincipal User user, @PathVariable Integer eventId,
+                                                   @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can access this endpoint"));
         }
@@ -210,7 +184,9 @@ public class CollegeDashboardController {
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
             return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
         }
-        List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<EventRegistration> regs = eventRegistrationRepository.findByEventWithStudentAndTeam(
+                event, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
         List<Map<String, Object>> result = new ArrayList<>();
         for (EventRegistration reg : regs) {
             Map<String, Object> regInfo = new HashMap<>();
@@ -222,7 +198,7 @@ public class CollegeDashboardController {
             regInfo.put("registrationDate", reg.getErdateTime());
             result.add(regInfo);
         }
-        return ResponseEntity.ok(result);
+        return CursorPagination.page(result, pageSize, r -> (Integer) r.get("registrationId"));
     }
 
     @PostMapping("/events/{eventId}/registrations/{registrationId}/approve-certificate")
@@ -257,12 +233,8 @@ public class CollegeDashboardController {
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
             return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
         }
-        List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-        for (EventRegistration reg : regs) {
-            reg.setCertificateApproved(true);
-        }
-        eventRegistrationRepository.saveAll(regs);
-        return ResponseEntity.ok(Map.of("message", "Certificates approved for all registrations in eventId " + eventId));
+        int approved = eventRegistrationRepository.approveAllCertificates(eventId);
+        return ResponseEntity.ok(Map.of("message", "Certificates approved for all registrations in eventId " + eventId, "approved", approved));
     }
 
     @PostMapping("/events/{eventId}/registrations/approve-certificates")
@@ -276,18 +248,8 @@ public class CollegeDashboardController {
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
             return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
         }
-        List<Integer> registrationIds = req.getOrDefault("registrationIds", List.of());
-        int approved = 0;
-        for (Integer regId : registrationIds) {
-            Optional<EventRegistration> regOpt = eventRegistrationRepository.findById(regId);
-            if (regOpt.isPresent() && regOpt.get().getEvent().getEid().equals(eventId)) {
-                EventRegistration reg = regOpt.get();
-                reg.setCertificateApproved(true);
-                eventRegistrationRepository.save(reg);
-                approved++;
-            }
-        }
-        return ResponseEntity.ok(Map.of("message", "Certificates approved for " + approved + " registrations in eventId " + eventId));
+        int approved = collegeDashboardService.approveCertificates(eventId, req.getOrDefault("registrationIds", List.of()));
+        return ResponseEntity.ok(Map.of("message", "Certificates approved for " + approved + " registrations in eventId " + eventId, "approved", approved));
     }
 
     @GetMapping("/events")
@@ -0,0 +1,74 @@
+package com.unbound.backend.controller;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Keyset pagination shared by the list endpoints. Bodies stay plain JSON arrays; the cursor for the
+// next page is returned in the X-Next-Cursor header and is absent on the last page.
+final class CursorPagination {
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    // Page size for requests with neither limit nor cursor: clients from before pagination still get every row
+    static final int UNBOUNDED = Integer.MAX_VALUE - 1;
+
+    // Position after the last row of the previous page: the sort value (null for id-ordered lists) and the id tiebreaker
+    record Cursor(String value, int id) {
+    }
+
+    private CursorPagination() {
+    }
+
+    static int limit(Integer requested, String cursor) {
+        if (requested == null) return cursor == null || cursor.isBlank() ? UNBOUNDED : DEFAULT_LIMIT;
+        if (requested < 1) throw new RuntimeException("limit must be at least 1");
+        return Math.min(requested, MAX_LIMIT);
+    }
+
+    // Fetches one row more than the page so the response knows whether another page exists
+    static Pageable rows(int limit) {
+        return limit == UNBOUNDED ? Pageable.unpaged() : PageRequest.of(0, limit + 1);
+    }
+
+    // For id-ordered lists; ids are positive so 0 means "from the start"
+    static int afterId(String cursor) {
+        Cursor decoded = decode(cursor);
+        return decoded == null ? 0 : decoded.id();
+    }
+
+    static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            if (sep < 0) return new Cursor(null, Integer.parseInt(raw));
+            return new Cursor(raw.substring(0, sep), Integer.parseInt(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    static String encode(String value, Integer id) {
+        String raw = value == null ? String.valueOf(id) : value + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <T> ResponseEntity<List<T>> page(List<T> rows, int limit, Function<T, Integer> idOf) {
+        return page(rows, limit, row -> null, idOf);
+    }
+
+    static <T> ResponseEntity<List<T>> page(List<T> rows, int limit, Function<T, String> valueOf, Function<T, Integer> idOf) {
+        if (rows.size() <= limit) return ResponseEntity.ok(rows);
+        List<T> page = rows.subList(0, limit);
+        T last = page.get(limit - 1);
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, encode(valueOf.apply(last), idOf.apply(last)))
+                .body(page);
+    }
+}
@@ -1,6 +1,7 @@
 package com.unbound.backend.controller;
 
 import com.unbound.backend.dto.EventRequest;
+import com.unbound.backend.dto.EventSummary;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Fest;
@@ -8,6 +9,7 @@ import com.unbound.backend.entity.User;
 import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.CollegeRepository;
 import com.unbound.backend.repository.FestRepository;
+import com.unbound.backend.service.ThumbnailService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -22,9 +24,6 @@ import org.springframework.util.StringUtils;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.awt.Image;
 
 @RestController
 @RequestMapping("/api/events")
@@ -35,22 +34,25 @@ public class EventController {
     private CollegeRepository collegeRepository;
     @Autowired
     private FestRepository festRepository;
+    @Autowired
+    private ThumbnailService thumbnailService;
 
     private College getCollegeForUser(User user) {
-        return collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return collegeRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     @GetMapping
-    public ResponseEntity<?> listEvents(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> listEvents(@AuthenticationPrincipal User user,
+                                        @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can access this endpoint"));
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.notFound().build();
-        List<Event> events = eventRepository.findByCollege(college);
-        return ResponseEntity.ok(events);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<EventSummary> events = eventRepository.findSummariesByCollege(
+                college, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(events, pageSize, EventSummary::getEid);
     }
 
     @PostMapping
@@ -183,13 +185,7 @@ public class EventController {
             String thumbFilename = "thumb_" + filename;
             Path thumbPath = Paths.get(uploadDir, thumbFilename);
             try {
-                BufferedImage originalImage = ImageIO.read(file.getInputStream());
-                int width = 300;
-                int height = (int) (originalImage.getHeight() * (300.0 / originalImage.getWidth()));
-                Image tmp = originalImage.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                BufferedImage thumbImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-                thumbImage.getGraphics().drawImage(tmp, 0, 0, null);
-                ImageIO.write(thumbImage, "jpg", thumbPath.toFile());
+                thumbnailService.writeThumbnail(file.getInputStream(), thumbPath);
             } catch (Exception e) { throw new RuntimeException("Failed to generate thumbnail for event ID " + eid + ": " + e.getMessage()); }
             String posterThumbnailUrl = "/" + uploadDir + thumbFilename;
             event.setPosterUrl(posterUrl);
@@ -1,5 +1,6 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.dto.ReviewSummary;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,9 +28,7 @@ public class EventReviewController {
     private CollegeRepository collegeRepository;
 
     private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return studentRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     // Student submits a review (only after event is completed and registered)
@@ -90,20 +89,21 @@ public class EventReviewController {
 
     // College views all reviews for an event
     @GetMapping("/{eventId}/reviews")
-    public ResponseEntity<?> getEventReviews(@AuthenticationPrincipal User user, @PathVariable Integer eventId) {
+    public ResponseEntity<?> getEventReviews(@AuthenticationPrincipal User user, @PathVariable Integer eventId,
+                                             @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Only colleges can view reviews"));
         }
-        College college = collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        College college = collegeRepository.findByUserUid(user.getUid()).orElse(null);
         if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
             return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
         }
-        List<EventReview> reviews = eventReviewRepository.findByEvent(event);
-        return ResponseEntity.ok(reviews);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<ReviewSummary> reviews = eventReviewRepository.findSummariesByEvent(
+                event, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(reviews, pageSize, ReviewSummary::getId);
     }
 
     // Get average rating and review count for an event
@@ -111,13 +111,11 @@ public class EventReviewController {
     public ResponseEntity<?> getEventRating(@PathVariable Integer eventId) {
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
-        List<EventReview> reviews = eventReviewRepository.findByEvent(event);
-        double avg = reviews.stream().mapToInt(EventReview::getRating).average().orElse(0.0);
-        int count = reviews.size();
+        EventReviewRepository.Rating rating = eventReviewRepository.getRating(event);
         return ResponseEntity.ok(Map.of(
             "eventId", eventId,
-            "averageRating", avg,
-            "reviewCount", count
+            "averageRating", rating.getAverageRating(),
+            "reviewCount", rating.getReviewCount()
         ));
     }
 } 
\ No newline at end of file
@@ -26,9 +26,9 @@ public class EventStatsController {
 
     @GetMapping("/{eventId}/stats")
     public ResponseEntity<?> getEventStats(@PathVariable Integer eventId) {
-        Event event = eventRepository.findById(eventId).orElse(null);
+        Event event = eventRepository.findWithFestByEid(eventId).orElse(null);
         if (event == null) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
-        int registrationCount = eventRegistrationRepository.findByEvent(event).size();
+        long registrationCount = eventRegistrationRepository.countByEvent(event);
         String eventDate = event.getEventDate();
         LocalDate today = LocalDate.now();
         LocalDate eventDay;
@@ -1,20 +1,15 @@
 package com.unbound.backend.controller;
 
-import com.unbound.backend.entity.Event;
-import com.unbound.backend.entity.Fest;
-import com.unbound.backend.entity.College;
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.FestSummary;
 import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.EventRepositoryCustom.EventSearch;
 import com.unbound.backend.repository.FestRepository;
-import com.unbound.backend.repository.CollegeRepository;
-import com.unbound.backend.repository.EventRegistrationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.Comparator;
 
 @RestController
 @RequestMapping("/api/explore")
@@ -23,32 +18,20 @@ public class ExploreController {
     private EventRepository eventRepository;
     @Autowired
     private FestRepository festRepository;
-    @Autowired
-    private CollegeRepository collegeRepository;
-    @Autowired
-    private EventRegistrationRepository eventRegistrationRepository;
 
     @GetMapping("/fests")
     public ResponseEntity<?> exploreFests(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<Fest> fests = festRepository.findAll();
-        if (name != null) {
-            fests = fests.stream().filter(f -> f.getFname().toLowerCase().contains(name.toLowerCase())).collect(Collectors.toList());
-        }
-        if (college != null) {
-            fests = fests.stream().filter(f -> f.getCollege().getCname().toLowerCase().contains(college.toLowerCase())).collect(Collectors.toList());
-        }
-        if (startDate != null) {
-            fests = fests.stream().filter(f -> f.getStartDate().compareTo(startDate) >= 0).collect(Collectors.toList());
-        }
-        if (endDate != null) {
-            fests = fests.stream().filter(f -> f.getEndDate().compareTo(endDate) <= 0).collect(Collectors.toList());
-        }
-        return ResponseEntity.ok(fests);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<FestSummary> fests = festRepository.searchSummaries(name, college, startDate, endDate,
+                CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(fests, pageSize, FestSummary::getFid);
     }
 
     @GetMapping("/events")
@@ -61,59 +44,15 @@ public class ExploreController {
             @RequestParam(required = false) String college,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String mode,
-            @RequestParam(required = false, defaultValue = "date_asc") String sort // "date_asc", "date_desc", "popularity", "fee_asc", "fee_desc"
+            @RequestParam(required = false, defaultValue = "date_asc") String sort, // "date_asc", "date_desc", "popularity", "fee_asc", "fee_desc"
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<Event> events = eventRepository.findAll();
-        if (category != null) {
-            events = events.stream().filter(e -> category.equalsIgnoreCase(e.getCategory())).collect(Collectors.toList());
-        }
-        if (mode != null) {
-            events = events.stream().filter(e -> mode.equalsIgnoreCase(e.getMode())).collect(Collectors.toList());
-        }
-        if (date != null) {
-            events = events.stream().filter(e -> e.getEventDate().equals(date)).collect(Collectors.toList());
-        }
-        if (entryFee != null) {
-            if (entryFee.equalsIgnoreCase("free")) {
-                events = events.stream().filter(e -> e.getFees() == 0).collect(Collectors.toList());
-            } else if (entryFee.equalsIgnoreCase("paid")) {
-                events = events.stream().filter(e -> e.getFees() > 0).collect(Collectors.toList());
-            }
-        }
-        if (team != null) {
-            events = events.stream().filter(e -> e.getTeamIsAllowed().equals(team)).collect(Collectors.toList());
-        }
-        if (festName != null) {
-            events = events.stream().filter(e -> e.getFest() != null && e.getFest().getFname().toLowerCase().contains(festName.toLowerCase())).collect(Collectors.toList());
-        }
-        if (college != null) {
-            events = events.stream().filter(e -> e.getCollege().getCname().toLowerCase().contains(college.toLowerCase())).collect(Collectors.toList());
-        }
-        if (location != null) {
-            events = events.stream().filter(e -> e.getLocation() != null && e.getLocation().toLowerCase().contains(location.toLowerCase())).collect(Collectors.toList());
-        }
-        // Sorting
-        switch (sort) {
-            case "date_desc":
-                events = events.stream().sorted((a, b) -> b.getEventDate().compareTo(a.getEventDate())).collect(Collectors.toList());
-                break;
-            case "popularity":
-                // Sort by number of registrations (descending)
-                events = events.stream().sorted((a, b) -> Integer.compare(
-                    eventRegistrationRepository.findByEvent(b).size(),
-                    eventRegistrationRepository.findByEvent(a).size()
-                )).collect(Collectors.toList());
-                break;
-            case "fee_asc":
-                events = events.stream().sorted(Comparator.comparingInt(Event::getFees)).collect(Collectors.toList());
-                break;
-            case "fee_desc":
-                events = events.stream().sorted((a, b) -> Integer.compare(b.getFees(), a.getFees())).collect(Collectors.toList());
-                break;
-            default:
-                // date_asc
-                events = events.stream().sorted((a, b) -> a.getEventDate().compareTo(b.getEventDate())).collect(Collectors.toList());
-        }
-        return ResponseEntity.ok(events);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        EventSearch search = new EventSearch(category, date, entryFee, team, festName, college, location, mode, sort);
+        CursorPagination.Cursor after = CursorPagination.decode(cursor);
+        List<EventSummary> events = eventRepository.searchSummaries(search,
+                after == null ? null : after.value(), after == null ? 0 : after.id(), pageSize + 1);
+        return CursorPagination.page(events, pageSize, search::sortValueOf, EventSummary::getEid);
     }
 } 
\ No newline at end of file
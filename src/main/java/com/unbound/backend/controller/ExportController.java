@@ -0,0 +1,92 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Fest;
+import com.unbound.backend.entity.User;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.repository.EventRepository;
+import com.unbound.backend.repository.FestRepository;
+import com.unbound.backend.service.CsvExportService;
+import com.unbound.backend.service.CsvExportService.Dataset;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/college/export")
+public class ExportController {
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private CsvExportService csvExportService;
+
+    private College getCollegeForUser(User user) {
+        return collegeRepository.findByUserUid(user.getUid()).orElse(null);
+    }
+
+    // dataset: registrations, payments or reviews
+    @GetMapping("/events/{eventId}/{dataset}")
+    public ResponseEntity<?> exportEvent(@AuthenticationPrincipal User user, @PathVariable Integer eventId,
+                                         @PathVariable String dataset, @RequestParam(defaultValue = "false") boolean gzip) {
+        if (user == null || user.getRole() != User.Role.College) {
+            return ResponseEntity.status(403).body(Map.of("error", "Only colleges can export data"));
+        }
+        College college = getCollegeForUser(user);
+        if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
+        Dataset ds = Dataset.of(dataset);
+        if (ds == null) return ResponseEntity.badRequest().body(Map.of("error", "Unknown export: " + dataset));
+        Event event = eventRepository.findById(eventId).orElse(null);
+        if (event == null || !event.getCollege().getCid().equals(college.getCid())) {
+            return ResponseEntity.status(404).body(Map.of("error", "Event not found or not owned by this college"));
+        }
+        return csv("event-" + eventId + "-" + ds.name().toLowerCase(), ds, List.of(eventId), gzip);
+    }
+
+    @GetMapping("/fests/{festId}/{dataset}")
+    public ResponseEntity<?> exportFest(@AuthenticationPrincipal User user, @PathVariable Integer festId,
+                                        @PathVariable String dataset, @RequestParam(defaultValue = "false") boolean gzip) {
+        if (user == null || user.getRole() != User.Role.College) {
+            return ResponseEntity.status(403).body(Map.of("error", "Only colleges can export data"));
+        }
+        College college = getCollegeForUser(user);
+        if (college == null) return ResponseEntity.status(404).body(Map.of("error", "College not found"));
+        Dataset ds = Dataset.of(dataset);
+        if (ds == null) return ResponseEntity.badRequest().body(Map.of("error", "Unknown export: " + dataset));
+        Fest fest = festRepository.findById(festId).orElse(null);
+        if (fest == null || !fest.getCollege().getCid().equals(college.getCid())) {
+            return ResponseEntity.status(404).body(Map.of("error", "Fest not found or not owned by this college"));
+        }
+        return csv("fest-" + festId + "-" + ds.name().toLowerCase(), ds, eventRepository.findIdsByFest(fest), gzip);
+    }
+
+    // The body is written after the handler returns, on an MVC async thread with its own read-only transaction
+    private ResponseEntity<StreamingResponseBody> csv(String name, Dataset dataset, Collection<Integer> eventIds, boolean gzip) {
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream zip = new GZIPOutputStream(out, 64 * 1024);
+                csvExportService.write(dataset, eventIds, zip);
+                zip.finish();
+            } else {
+                csvExportService.write(dataset, eventIds, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + (gzip ? ".csv.gz" : ".csv") + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .body(body);
+    }
+}
@@ -1,6 +1,7 @@
 package com.unbound.backend.controller;
 
 import com.unbound.backend.dto.FestRequest;
+import com.unbound.backend.dto.FestSummary;
 import com.unbound.backend.entity.Fest;
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.User;
@@ -25,20 +26,21 @@ public class FestController {
     private CollegeRepository collegeRepository;
 
     private College getCollegeForUser(User user) {
-        return collegeRepository.findAll().stream()
-                .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return collegeRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     @GetMapping
-    public ResponseEntity<?> listFests(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> listFests(@AuthenticationPrincipal User user,
+                                       @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         if (user == null || user.getRole() != User.Role.College) {
             return ResponseEntity.status(403).body(Map.of("error", "Forbidden: Only colleges can access this endpoint"));
         }
         College college = getCollegeForUser(user);
         if (college == null) return ResponseEntity.notFound().build();
-        List<Fest> fests = festRepository.findByCollege(college);
-        return ResponseEntity.ok(fests);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<FestSummary> fests = festRepository.findSummariesByCollege(
+                college, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(fests, pageSize, FestSummary::getFid);
     }
 
     @PostMapping
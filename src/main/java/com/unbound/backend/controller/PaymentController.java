@@ -1,11 +1,16 @@
 package com.unbound.backend.controller;
 
-import com.razorpay.Order;
-import com.razorpay.RazorpayException;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.service.PaymentGatewayClient;
+import com.unbound.backend.service.PaymentGatewayException;
 import com.unbound.backend.service.PaymentService;
+import com.unbound.backend.service.PaymentWebhookService;
+import com.unbound.backend.service.PaymentWebhookVerifier;
+import org.json.JSONException;
+import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +26,13 @@ public class PaymentController {
     @Autowired
     private PaymentService paymentService;
     @Autowired
+    @Lazy
+    private PaymentGatewayClient paymentGatewayClient;
+    @Autowired
+    private PaymentWebhookVerifier paymentWebhookVerifier;
+    @Autowired
+    private PaymentWebhookService paymentWebhookService;
+    @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     // added this code: inject EventRepository for event lookup
     @Autowired
@@ -38,9 +50,9 @@ public class PaymentController {
             if (registration == null) {
                 throw new RuntimeException("Invalid registration ID: " + registrationId);
             }
-            Order order = paymentService.createOrder(registration, amount, currency, receiptEmail);
-            return ResponseEntity.ok(Map.of("order", order.toJson()));
-        } catch (RazorpayException e) {
+            JSONObject order = paymentService.createOrder(registration, amount, currency, receiptEmail);
+            return ResponseEntity.ok(Map.of("order", order.toMap()));
+        } catch (PaymentGatewayException e) {
             throw new RuntimeException("Payment gateway error for registration ID " + req.get("registrationId") + ": " + e.getMessage());
         }
     }
@@ -62,14 +74,8 @@ public class PaymentController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Invalid event ID: " + eventId));
             }
             // Create Razorpay order (no registration yet, so use eventId in receipt)
-            com.razorpay.RazorpayClient client = new com.razorpay.RazorpayClient(paymentService.getRazorpayKeyId(), paymentService.getRazorpayKeySecret());
-            org.json.JSONObject orderRequest = new org.json.JSONObject();
-            orderRequest.put("amount", amount * 100); // amount in paise
-            orderRequest.put("currency", currency);
-            orderRequest.put("receipt", "event-" + eventId);
-            orderRequest.put("payment_capture", 1);
-            com.razorpay.Order order = client.orders.create(orderRequest);
-            return ResponseEntity.ok(Map.of("order", order.toJson()));
+            JSONObject order = paymentGatewayClient.createOrder(amount * 100, currency, "event-" + eventId); // amount in paise
+            return ResponseEntity.ok(Map.of("order", order.toMap()));
         } catch (Exception e) {
             return ResponseEntity.status(500).body(Map.of("error", "Payment gateway error: " + e.getMessage()));
         }
@@ -81,7 +87,26 @@ public class PaymentController {
         String razorpayOrderId = (String) req.get("razorpayOrderId");
         String status = (String) req.get("status");
         String paymentId = (String) req.get("paymentId");
-        paymentService.updatePaymentStatus(razorpayOrderId, status, paymentId);
-        return ResponseEntity.ok(Map.of("message", "Payment status updated"));
+        boolean updated = paymentService.updatePaymentStatus(razorpayOrderId, status, paymentId);
+        return ResponseEntity.ok(Map.of("message", updated ? "Payment status updated" : "Payment status already up to date"));
+    }
+
+    // Gateway webhook: verify the signature over the raw body, queue the transition and acknowledge immediately
+    @PostMapping("/webhook")
+    public ResponseEntity<?> handleWebhook(@RequestHeader(value = "X-Razorpay-Signature", required = false) String signature,
+                                           @RequestBody byte[] body) {
+        if (!paymentWebhookVerifier.isValid(body, signature)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Invalid webhook signature"));
+        }
+        JSONObject webhook;
+        try {
+            webhook = new JSONObject(new String(body, java.nio.charset.StandardCharsets.UTF_8));
+        } catch (JSONException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Malformed webhook payload"));
+        }
+        if (!paymentWebhookService.submit(webhook)) {
+            return ResponseEntity.status(503).header("Retry-After", "5").body(Map.of("error", "Webhook queue is full, retry later"));
+        }
+        return ResponseEntity.ok(Map.of("message", "Webhook accepted"));
     }
 } 
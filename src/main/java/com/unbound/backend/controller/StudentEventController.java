@@ -40,9 +40,7 @@ public class StudentEventController {
     private CertificateService certificateService;
 
     private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return studentRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     @PostMapping("/register")
@@ -55,12 +53,14 @@ public class StudentEventController {
         Optional<Event> eventOpt = eventRepository.findById(req.getEventId());
         if (eventOpt.isEmpty()) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
         Event event = eventOpt.get();
-        // Check for duplicate registration
-        if (eventRegistrationRepository.findByEventAndStudent(event, student).isPresent()) {
+        // Check for duplicate registration; an expired (unpaid) registration is reused instead
+        Optional<EventRegistration> existing = eventRegistrationRepository.findByEventAndStudent(event, student);
+        if (existing.isPresent() && !"expired".equals(existing.get().getStatus())) {
             return ResponseEntity.badRequest().body(Map.of("error", "Already registered for this event"));
         }
-        // Check event capacity
-        long regCount = eventRegistrationRepository.findByEvent(event).stream().count();
+        Integer reusedRid = existing.map(EventRegistration::getRid).orElse(null);
+        // Check event capacity (expired registrations no longer hold a seat)
+        long regCount = eventRegistrationRepository.countByEventAndStatusNot(event, "expired");
         if (regCount >= event.getCapacity()) {
             return ResponseEntity.badRequest().body(Map.of("error", "Event is full"));
         }
@@ -70,6 +70,7 @@ public class StudentEventController {
                 return ResponseEntity.badRequest().body(Map.of("error", "This event requires team registration"));
             }
             EventRegistration registration = EventRegistration.builder()
+                    .rid(reusedRid)
                     .event(event)
                     .student(student)
                     .erdateTime(java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ISO_DATE_TIME))
@@ -79,7 +80,7 @@ public class StudentEventController {
             eventRegistrationRepository.save(registration);
             // Send registration confirmation email
             emailService.sendEmail(
-                student.getUser().getEmail(),
+                user.getEmail(),
                 "Registration Confirmation - " + event.getEname(),
                 String.format("Dear %s,\n\nYou have successfully registered for event '%s'.\nEvent Date: %s\nLocation: %s\n\nThank you for registering!\n\n- Unbound Platform Team",
                     student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
@@ -98,8 +99,7 @@ public class StudentEventController {
                 if (teamOpt.isEmpty()) return ResponseEntity.badRequest().body(Map.of("error", "Team not found"));
                 team = teamOpt.get();
                 // Check if already a member
-                boolean alreadyMember = teamMembersRepository.findByTeam(team).stream()
-                        .anyMatch(tm -> tm.getStudent().getSid().equals(student.getSid()));
+                boolean alreadyMember = teamMembersRepository.existsById(new TeamMembers.TeamMemberId(team.getTid(), student.getSid()));
                 if (alreadyMember) {
                     return ResponseEntity.badRequest().body(Map.of("error", "Already a member of this team"));
                 }
@@ -110,29 +110,30 @@ public class StudentEventController {
                 // Create new team
                 team = Team.builder().event(event).tname(req.getTeamName()).creator(student).build();
                 team = teamRepository.save(team);
-                // Add members
+                // Add members: one IN query for the students, one JDBC batch for the membership rows
                 Set<Integer> uniqueMemberIds = new HashSet<>(req.getMemberIds());
-                for (Integer sid : uniqueMemberIds) {
-                    Optional<Student> memberOpt = studentRepository.findById(sid);
-                    if (memberOpt.isEmpty()) continue;
-                    TeamMembers tm = TeamMembers.builder().team(team).student(memberOpt.get()).build();
-                    teamMembersRepository.save(tm);
+                List<TeamMembers> members = new ArrayList<>();
+                for (Student member : studentRepository.findAllById(uniqueMemberIds)) {
+                    members.add(TeamMembers.builder().team(team).student(member).build());
                 }
+                teamMembersRepository.saveAll(members);
             } else {
                 return ResponseEntity.badRequest().body(Map.of("error", "Invalid team registration request"));
             }
             // Register the student (and team) for the event
             EventRegistration registration = EventRegistration.builder()
+                    .rid(reusedRid)
                     .event(event)
                     .student(student)
                     .team(team)
                     .erdateTime(LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
                     .status("registered")
+                    .paymentStatus(event.getFees() > 0 ? "pending" : "paid")
                     .build();
             eventRegistrationRepository.save(registration);
             // Send registration confirmation email
             emailService.sendEmail(
-                student.getUser().getEmail(),
+                user.getEmail(),
                 "Registration Confirmation - " + event.getEname(),
                 String.format("Dear %s,\n\nYou have successfully registered for event '%s' as part of a team.\nEvent Date: %s\nLocation: %s\n\nThank you for registering!\n\n- Unbound Platform Team",
                     student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
@@ -143,13 +144,17 @@ public class StudentEventController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<?> myRegistrations(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> myRegistrations(@AuthenticationPrincipal User user,
+                                             @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         if (user == null || user.getRole() != User.Role.Student) {
             return ResponseEntity.status(403).body(Map.of("error", "Only students can view their registrations"));
         }
         Student student = getStudentForUser(user);
         if (student == null) return ResponseEntity.status(404).body(Map.of("error", "Student not found"));
-        return ResponseEntity.ok(studentDashboardService.getMyRegistrations(student));
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<Map<String, Object>> regs = studentDashboardService.getMyRegistrations(
+                student, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(regs, pageSize, r -> (Integer) r.get("registrationId"));
     }
 
     @GetMapping("/dashboard/stats")
@@ -169,7 +174,7 @@ public class StudentEventController {
         }
         Student student = getStudentForUser(user);
         if (student == null) return ResponseEntity.status(404).body(Map.of("error", "Student not found"));
-        Optional<Event> eventOpt = eventRepository.findById(eventId);
+        Optional<Event> eventOpt = eventRepository.findWithFestByEid(eventId);
         if (eventOpt.isEmpty()) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
         Event event = eventOpt.get();
         Optional<EventRegistration> regOpt = eventRegistrationRepository.findByEventAndStudent(event, student);
@@ -1,5 +1,7 @@
 package com.unbound.backend.controller;
 
+import com.unbound.backend.dto.StudentSummary;
+import com.unbound.backend.dto.TeamSummary;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,7 +11,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/student/teams")
@@ -24,17 +25,18 @@ public class TeamController {
     private EventRepository eventRepository;
 
     private Student getStudentForUser(User user) {
-        return studentRepository.findAll().stream()
-                .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                .findFirst().orElse(null);
+        return studentRepository.findByUserUid(user.getUid()).orElse(null);
     }
 
     @GetMapping("/event/{eventId}")
-    public ResponseEntity<?> viewTeamsForEvent(@PathVariable Integer eventId) {
+    public ResponseEntity<?> viewTeamsForEvent(@PathVariable Integer eventId,
+                                               @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
         Event event = eventRepository.findById(eventId).orElse(null);
         if (event == null) return ResponseEntity.status(404).body(Map.of("error", "Event not found"));
-        List<Team> teams = teamRepository.findByEvent(event);
-        return ResponseEntity.ok(teams);
+        int pageSize = CursorPagination.limit(limit, cursor);
+        List<TeamSummary> teams = teamRepository.findSummariesByEvent(
+                event, CursorPagination.afterId(cursor), CursorPagination.rows(pageSize));
+        return CursorPagination.page(teams, pageSize, TeamSummary::getTid);
     }
 
     @GetMapping("/my")
@@ -44,8 +46,7 @@ public class TeamController {
         }
         Student student = getStudentForUser(user);
         if (student == null) return ResponseEntity.status(404).body(Map.of("error", "Student not found"));
-        List<TeamMembers> memberships = teamMembersRepository.findByStudent(student);
-        List<Team> teams = memberships.stream().map(TeamMembers::getTeam).collect(Collectors.toList());
+        List<TeamSummary> teams = teamRepository.findSummariesByMember(student);
         return ResponseEntity.ok(teams);
     }
 
@@ -53,8 +54,7 @@ public class TeamController {
     public ResponseEntity<?> viewTeamMembers(@PathVariable Integer teamId) {
         Team team = teamRepository.findById(teamId).orElse(null);
         if (team == null) return ResponseEntity.status(404).body(Map.of("error", "Team not found"));
-        List<TeamMembers> members = teamMembersRepository.findByTeam(team);
-        List<Student> students = members.stream().map(TeamMembers::getStudent).collect(Collectors.toList());
+        List<StudentSummary> students = studentRepository.findSummariesByTeam(team);
         return ResponseEntity.ok(students);
     }
 
@@ -0,0 +1,30 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Event list row: event columns plus the owning college/fest names and registration count, no nested entities
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummary {
+    private Integer eid;
+    private String ename;
+    private String edescription;
+    private String eventDate;
+    private Integer fees;
+    private String location;
+    private Integer capacity;
+    private Boolean teamIsAllowed;
+    private String category;
+    private String mode;
+    private String posterUrl;
+    private String posterThumbnailUrl;
+    private boolean posterApproved;
+    private Integer collegeId;
+    private String collegeName;
+    private Integer festId;
+    private String festName;
+    private Long registrationCount;
+}
@@ -0,0 +1,18 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FestSummary {
+    private Integer fid;
+    private String fname;
+    private String fdescription;
+    private String startDate;
+    private String endDate;
+    private Integer collegeId;
+    private String collegeName;
+}
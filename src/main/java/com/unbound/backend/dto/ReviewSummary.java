@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewSummary {
+    private Integer id;
+    private Integer rating;
+    private String reviewText;
+    private String createdAt;
+    private Integer studentId;
+    private String studentName;
+}
@@ -0,0 +1,15 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentSummary {
+    private Integer sid;
+    private String sname;
+    private Integer collegeId;
+    private String collegeName;
+}
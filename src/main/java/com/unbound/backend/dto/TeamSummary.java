@@ -0,0 +1,17 @@
+package com.unbound.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TeamSummary {
+    private Integer tid;
+    private String tname;
+    private Integer eventId;
+    private String eventName;
+    private Integer creatorId;
+    private String creatorName;
+}
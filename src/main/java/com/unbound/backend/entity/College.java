@@ -2,8 +2,13 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "college")
 @Data
 @NoArgsConstructor
@@ -14,7 +19,7 @@ public class College {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer cid;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uid", referencedColumnName = "uid", nullable = false, unique = true)
     private User user;
 
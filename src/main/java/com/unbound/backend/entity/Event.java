@@ -2,9 +2,20 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "event")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+// Explore sort orders seek on (sort key, eid); the schema itself is owned by the Flyway migrations in db/migration
+@Table(name = "event", indexes = {
+    @Index(name = "idx_event_date_eid", columnList = "event_date, eid"),
+    @Index(name = "idx_event_fees_eid", columnList = "fees, eid"),
+    @Index(name = "idx_event_college_date", columnList = "cid, event_date"),
+    @Index(name = "idx_event_category_date", columnList = "category, event_date, eid")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,11 +25,11 @@ public class Event {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer eid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cid", referencedColumnName = "cid", nullable = false)
     private College college;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "fid", referencedColumnName = "fid")
     private Fest fest;
 
@@ -28,7 +39,7 @@ public class Event {
     @Column(columnDefinition = "TEXT")
     private String edescription;
 
-    @Column(nullable = false)
+    @Column(name = "event_date", nullable = false)
     private String eventDate;
 
     @Column(nullable = false)
@@ -2,9 +2,15 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
-@Table(name = "event_registration")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "event_registration", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_registration_event_student", columnNames = {"eid", "sid"})
+}, indexes = {
+    @Index(name = "idx_registration_event_status", columnList = "eid, status, payment_status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,15 +20,15 @@ public class EventRegistration {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer rid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "eid", referencedColumnName = "eid", nullable = false)
     private Event event;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sid", referencedColumnName = "sid", nullable = false)
     private Student student;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tid", referencedColumnName = "tid")
     private Team team;
 
@@ -4,7 +4,11 @@ import lombok.*;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "event_review")
+@Table(name = "event_review", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_review_event_student", columnNames = {"event_id", "student_id"})
+}, indexes = {
+    @Index(name = "idx_review_student_event", columnList = "student_id, event_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,11 +18,11 @@ public class EventReview {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", referencedColumnName = "eid", nullable = false)
     private Event event;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "student_id", referencedColumnName = "sid", nullable = false)
     private Student student;
 
@@ -2,8 +2,13 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "fest")
 @Data
 @NoArgsConstructor
@@ -14,7 +19,7 @@ public class Fest {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer fid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cid", referencedColumnName = "cid", nullable = false)
     private College college;
 
@@ -0,0 +1,25 @@
+package com.unbound.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// A scheduled job, or one partition of it (name "job#partition"); the holder may run it until expiresAt
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(length = 100)
+    private String holder;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,23 @@
+package com.unbound.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// An instance taking part in scheduled jobs; live while its heartbeat is recent
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "job_node", indexes = @Index(name = "idx_job_node_heartbeat", columnList = "heartbeat_at"))
+public class JobNode {
+
+    @Id
+    @Column(length = 100)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -4,7 +4,10 @@ import lombok.*;
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "payment")
+@Table(name = "payment", indexes = {
+    @Index(name = "idx_payment_status_pid", columnList = "status, pid"),
+    @Index(name = "idx_payment_registration_status", columnList = "rid, status, amount")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,11 +17,11 @@ public class Payment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer pid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "rid", referencedColumnName = "rid", nullable = false)
     private EventRegistration eventRegistration;
 
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private String razorpayOrderId;
 
     @Column(nullable = false)
@@ -2,8 +2,10 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "team")
 @Data
 @NoArgsConstructor
@@ -14,14 +16,14 @@ public class Team {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer tid;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "eid", referencedColumnName = "eid", nullable = false)
     private Event event;
 
     @Column(nullable = false)
     private String tname;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sid", referencedColumnName = "sid", nullable = false)
     private Student creator;
 } 
\ No newline at end of file
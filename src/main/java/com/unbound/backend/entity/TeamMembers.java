@@ -2,6 +2,8 @@ package com.unbound.backend.entity;
 
 import lombok.*;
 import jakarta.persistence.*;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.springframework.data.domain.Persistable;
 import java.io.Serializable;
 
 @Entity
@@ -11,17 +13,42 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Builder
 @IdClass(TeamMembers.TeamMemberId.class)
-public class TeamMembers {
+public class TeamMembers implements Persistable<TeamMembers.TeamMemberId> {
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tid", referencedColumnName = "tid", nullable = false)
     private Team team;
 
     @Id
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sid", referencedColumnName = "sid", nullable = false)
     private Student student;
 
+    // The composite key is assigned, so Spring Data cannot tell a new row from an existing one by its id.
+    // Without this flag save()/saveAll() merge (one SELECT per row) and the inserts cannot be JDBC-batched.
+    @Transient
+    @JsonIgnore
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    @JsonIgnore
+    public TeamMemberId getId() {
+        return new TeamMemberId(team != null ? team.getTid() : null, student != null ? student.getSid() : null);
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -29,4 +56,4 @@ public class TeamMembers {
         private Integer team;
         private Integer student;
     }
-} 
\ No newline at end of file
+} 
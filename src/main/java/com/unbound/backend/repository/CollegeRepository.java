@@ -2,6 +2,8 @@ package com.unbound.backend.repository;
 
 import com.unbound.backend.entity.College;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.util.Optional;
 
 public interface CollegeRepository extends JpaRepository<College, Integer> {
-} 
\ No newline at end of file
+    Optional<College> findByUserUid(Integer uid);
+}
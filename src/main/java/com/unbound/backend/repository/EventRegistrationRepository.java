@@ -1,10 +1,18 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Student;
 import com.unbound.backend.entity.Team;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +21,76 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
     List<EventRegistration> findByEvent(Event event);
     Optional<EventRegistration> findByEventAndStudent(Event event, Student student);
     List<EventRegistration> findByTeam(Team team);
-} 
\ No newline at end of file
+
+    // Registration list for organizers: student and team are read for every row
+    @Query("SELECT r FROM EventRegistration r JOIN FETCH r.student LEFT JOIN FETCH r.team " +
+           "WHERE r.event = :event AND r.rid > :afterRid ORDER BY r.rid")
+    List<EventRegistration> findByEventWithStudentAndTeam(@Param("event") Event event, @Param("afterRid") int afterRid, Pageable page);
+
+    // Reminder emails need the student's user (email) for every row
+    @EntityGraph(attributePaths = {"student", "student.user"})
+    List<EventRegistration> findWithStudentUserByEvent(Event event);
+    long countByEventAndStatusNot(Event event, String status);
+    long countByEvent(Event event);
+
+    @Query("SELECT COUNT(r) FROM EventRegistration r WHERE r.event.college = :college")
+    long countByCollege(@Param("college") College college);
+
+    @Query("SELECT COUNT(r) FROM EventRegistration r WHERE r.event.college = :college AND LOWER(r.paymentStatus) = 'paid'")
+    long countPaidByCollege(@Param("college") College college);
+
+    // CSV export rows, no entities; CsvExportService streams them with the export fetch size (see export.fetchSize)
+    String EXPORT_SELECT = "SELECT r.rid, e.eid, e.ename, s.sid, s.sname, u.email, r.erdateTime, r.status, r.paymentStatus, t.tid, t.tname, r.certificateApproved " +
+           "FROM EventRegistration r JOIN r.event e JOIN r.student s JOIN s.user u LEFT JOIN r.team t " +
+           "WHERE e.eid IN :eids ORDER BY e.eid, r.rid";
+
+    // Student dashboard: each row is {EventRegistration, EventReview or null}, event/fest/team fetched in the same query
+    @Query("SELECT r, rv FROM EventRegistration r JOIN FETCH r.event e LEFT JOIN FETCH e.fest LEFT JOIN FETCH r.team " +
+           "LEFT JOIN EventReview rv ON rv.event = e AND rv.student = r.student " +
+           "WHERE r.student = :student AND r.rid > :afterRid ORDER BY r.rid")
+    List<Object[]> findByStudentWithReview(@Param("student") Student student, @Param("afterRid") int afterRid, Pageable page);
+
+    // eventDate is stored as ISO yyyy-MM-dd, so string comparison against today orders correctly
+    @Query("SELECT COUNT(r) AS totalEvents, " +
+           "COALESCE(SUM(CASE WHEN LOWER(r.paymentStatus) = 'paid' THEN 1 ELSE 0 END), 0) AS totalPaid, " +
+           "COUNT(rv) AS reviewsGiven, " +
+           "COALESCE(SUM(CASE WHEN e.eventDate > :today THEN 1 ELSE 0 END), 0) AS upcomingEvents, " +
+           "COALESCE(SUM(CASE WHEN e.eventDate < :today THEN 1 ELSE 0 END), 0) AS pastEvents " +
+           "FROM EventRegistration r JOIN r.event e " +
+           "LEFT JOIN EventReview rv ON rv.event = e AND rv.student = r.student WHERE r.student = :student")
+    StudentDashboardStats getStudentDashboardStats(@Param("student") Student student, @Param("today") String today);
+
+    // Follows a bulk payment transition: only registrations whose payment (by pid) is now paid are touched, so a payment
+    // that another actor moved elsewhere after the reconciler read it leaves its registration alone
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.paymentStatus = 'paid' " +
+           "WHERE r.rid IN (SELECT p.eventRegistration.rid FROM Payment p WHERE p.pid IN :pids AND p.status = 'paid')")
+    int markPaidForPayments(@Param("pids") List<Integer> pids);
+
+    // Releases the seat held by an unpaid registration whose payment (by pid) is now failed; the row is reused if the
+    // student registers again
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.paymentStatus = 'failed', r.status = 'expired' " +
+           "WHERE r.rid IN (SELECT p.eventRegistration.rid FROM Payment p WHERE p.pid IN :pids AND p.status = 'failed') " +
+           "AND r.paymentStatus = 'pending'")
+    int expireUnpaid(@Param("pids") List<Integer> pids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.certificateApproved = true WHERE r.event.eid = :eid")
+    int approveAllCertificates(@Param("eid") Integer eid);
+
+    // Callers chunk very large rid lists to stay under driver/optimizer limits for IN lists
+    @Transactional
+    @Modifying
+    @Query("UPDATE EventRegistration r SET r.certificateApproved = true WHERE r.event.eid = :eid AND r.rid IN :rids")
+    int approveCertificates(@Param("eid") Integer eid, @Param("rids") Collection<Integer> rids);
+
+    interface StudentDashboardStats {
+        Long getTotalEvents();
+        Long getTotalPaid();
+        Long getReviewsGiven();
+        Long getUpcomingEvents();
+        Long getPastEvents();
+    }
+}
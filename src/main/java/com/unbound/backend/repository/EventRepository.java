@@ -1,12 +1,74 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.EventSummary;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Fest;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
-public interface EventRepository extends JpaRepository<Event, Integer> {
+public interface EventRepository extends JpaRepository<Event, Integer>, EventRepositoryCustom {
+    String REGISTRATION_COUNT = "(SELECT COUNT(r) FROM EventRegistration r WHERE r.event = e)";
+    String SUMMARY_SELECT = "SELECT new com.unbound.backend.dto.EventSummary(e.eid, e.ename, e.edescription, e.eventDate, e.fees, " +
+            "e.location, e.capacity, e.teamIsAllowed, e.category, e.mode, e.posterUrl, e.posterThumbnailUrl, e.posterApproved, " +
+            "c.cid, c.cname, f.fid, f.fname, " + REGISTRATION_COUNT + ") FROM Event e JOIN e.college c LEFT JOIN e.fest f ";
+
+    // Served from the second-level query cache; invalidated whenever an event row is written through Hibernate
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Event> findByCollege(College college);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Event> findByFest(Fest fest);
-} 
\ No newline at end of file
+
+    // Events on a date whose id falls in one partition of the reminder job (idx_event_date_eid)
+    @Query("SELECT e FROM Event e WHERE e.eventDate = :date AND MOD(e.eid, :partitions) = :partition")
+    List<Event> findByEventDateInPartition(@Param("date") String date, @Param("partition") int partition, @Param("partitions") int partitions);
+
+    // Event and its fest in one query, for callers outside a transaction that read the fest's fields
+    @Query("SELECT e FROM Event e LEFT JOIN FETCH e.fest WHERE e.eid = :eid")
+    Optional<Event> findWithFestByEid(@Param("eid") Integer eid);
+
+    // Locks the event row until the transaction ends, so seat checks against its capacity run one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.eid = :eid")
+    Optional<Event> findByIdForUpdate(@Param("eid") Integer eid);
+
+    @Query("SELECT e.eid FROM Event e WHERE e.fest = :fest")
+    List<Integer> findIdsByFest(@Param("fest") Fest fest);
+
+    @Query(SUMMARY_SELECT + "WHERE e.college = :college AND e.eid > :afterEid ORDER BY e.eid")
+    List<EventSummary> findSummariesByCollege(@Param("college") College college, @Param("afterEid") int afterEid, Pageable page);
+
+    long countByCollege(College college);
+
+    // College dashboard: one row per event with its registration, payment and review aggregates
+    @Query("SELECT e.eid AS eventId, e.ename AS eventName, e.eventDate AS eventDate, f.fid AS festId, " +
+           REGISTRATION_COUNT + " AS registrations, " +
+           "(SELECT COUNT(r) FROM EventRegistration r WHERE r.event = e AND LOWER(r.paymentStatus) = 'paid') AS paidRegistrations, " +
+           "(SELECT COALESCE(SUM(p.amount), 0) FROM Payment p JOIN p.eventRegistration pr " +
+           "WHERE pr.event = e AND LOWER(p.status) = 'paid') AS earnings, " +
+           "(SELECT COUNT(rv) FROM EventReview rv WHERE rv.event = e) AS reviewCount, " +
+           "(SELECT COALESCE(AVG(rv.rating), 0) FROM EventReview rv WHERE rv.event = e) AS averageRating " +
+           "FROM Event e LEFT JOIN e.fest f WHERE e.college = :college ORDER BY e.eid")
+    List<EventStats> findStatsByCollege(@Param("college") College college);
+
+    interface EventStats {
+        Integer getEventId();
+        String getEventName();
+        String getEventDate();
+        Integer getFestId();
+        Long getRegistrations();
+        Long getPaidRegistrations();
+        Long getEarnings();
+        Long getReviewCount();
+        Double getAverageRating();
+    }
+}
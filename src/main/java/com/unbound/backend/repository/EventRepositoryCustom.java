@@ -0,0 +1,21 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.dto.EventSummary;
+import java.util.List;
+
+public interface EventRepositoryCustom {
+    // Explore filters; null fields are ignored. sort: date_asc (default), date_desc, popularity, fee_asc, fee_desc
+    record EventSearch(String category, String date, String entryFee, Boolean team, String festName,
+                       String college, String location, String mode, String sort) {
+
+        // Value of the sort key for a row, used to build the next-page cursor
+        public String sortValueOf(EventSummary event) {
+            if ("popularity".equals(sort)) return String.valueOf(event.getRegistrationCount());
+            if ("fee_asc".equals(sort) || "fee_desc".equals(sort)) return String.valueOf(event.getFees());
+            return event.getEventDate();
+        }
+    }
+
+    // afterValue/afterId come from the previous page's cursor (afterValue null for the first page)
+    List<EventSummary> searchSummaries(EventSearch search, String afterValue, int afterId, int maxResults);
+}
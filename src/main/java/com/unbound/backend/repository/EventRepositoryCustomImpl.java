@@ -0,0 +1,129 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.dto.EventSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Builds the explore query from only the filters that were supplied, so the database does the filtering and sorting
+public class EventRepositoryCustomImpl implements EventRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventSummary> searchSummaries(EventSearch search, String afterValue, int afterId, int maxResults) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+        if (search.category() != null) {
+            where.add("LOWER(e.category) = :category");
+            params.put("category", search.category().toLowerCase());
+        }
+        if (search.mode() != null) {
+            where.add("LOWER(e.mode) = :mode");
+            params.put("mode", search.mode().toLowerCase());
+        }
+        if (search.date() != null) {
+            where.add("e.eventDate = :date");
+            params.put("date", search.date());
+        }
+        if ("free".equalsIgnoreCase(search.entryFee())) {
+            where.add("e.fees = 0");
+        } else if ("paid".equalsIgnoreCase(search.entryFee())) {
+            where.add("e.fees > 0");
+        }
+        if (search.team() != null) {
+            where.add("e.teamIsAllowed = :team");
+            params.put("team", search.team());
+        }
+        if (search.festName() != null) {
+            where.add("LOWER(f.fname) LIKE CONCAT('%', :festName, '%') ESCAPE '\\'");
+            params.put("festName", LikePatterns.escape(search.festName().toLowerCase()));
+        }
+        if (search.college() != null) {
+            where.add("LOWER(c.cname) LIKE CONCAT('%', :college, '%') ESCAPE '\\'");
+            params.put("college", LikePatterns.escape(search.college().toLowerCase()));
+        }
+        if (search.location() != null) {
+            where.add("LOWER(e.location) LIKE CONCAT('%', :location, '%') ESCAPE '\\'");
+            params.put("location", LikePatterns.escape(search.location().toLowerCase()));
+        }
+
+        SortOrder order = SortOrder.of(search.sort());
+        if (afterValue != null) {
+            // Seek past the last row of the previous page: (key, eid) strictly after (afterValue, afterId)
+            where.add("(" + order.key + (order.descending ? " < " : " > ") + ":afterValue OR (" + order.key +
+                    " = :afterValue AND e.eid" + (order.idDescending ? " < " : " > ") + ":afterId))");
+            params.put("afterValue", order.parse(afterValue));
+            params.put("afterId", afterId);
+        }
+
+        StringBuilder jpql = new StringBuilder(EventRepository.SUMMARY_SELECT);
+        if (!where.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", where)).append(' ');
+        }
+        jpql.append("ORDER BY ").append(order.key).append(order.descending ? " DESC" : " ASC")
+                .append(", e.eid").append(order.idDescending ? " DESC" : " ASC");
+
+        TypedQuery<EventSummary> query = entityManager.createQuery(jpql.toString(), EventSummary.class);
+        params.forEach(query::setParameter);
+        query.setMaxResults(maxResults);
+        return query.getResultList();
+    }
+
+    private enum SortOrder {
+        DATE_ASC("e.eventDate", false, false),
+        DATE_DESC("e.eventDate", true, true),
+        POPULARITY(EventRepository.REGISTRATION_COUNT, true, false),
+        FEE_ASC("e.fees", false, false),
+        FEE_DESC("e.fees", true, true);
+
+        private final String key;
+        private final boolean descending;
+        private final boolean idDescending;
+
+        SortOrder(String key, boolean descending, boolean idDescending) {
+            this.key = key;
+            this.descending = descending;
+            this.idDescending = idDescending;
+        }
+
+        static SortOrder of(String sort) {
+            if (sort == null) return DATE_ASC;
+            switch (sort) {
+                case "date_desc":
+                    return DATE_DESC;
+                case "popularity":
+                    return POPULARITY;
+                case "fee_asc":
+                    return FEE_ASC;
+                case "fee_desc":
+                    return FEE_DESC;
+                default:
+                    return DATE_ASC;
+            }
+        }
+
+        Object parse(String value) {
+            try {
+                switch (this) {
+                    case POPULARITY:
+                        return Long.valueOf(value);
+                    case FEE_ASC:
+                    case FEE_DESC:
+                        return Integer.valueOf(value);
+                    default:
+                        return value;
+                }
+            } catch (NumberFormatException e) {
+                throw new RuntimeException("Invalid cursor");
+            }
+        }
+    }
+}
@@ -1,13 +1,38 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.ReviewSummary;
+import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.EventReview;
 import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventReviewRepository extends JpaRepository<EventReview, Integer> {
     List<EventReview> findByEvent(Event event);
     Optional<EventReview> findByEventAndStudent(Event event, Student student);
-} 
\ No newline at end of file
+
+    @Query("SELECT COUNT(rv) FROM EventReview rv WHERE rv.event.college = :college")
+    long countByCollege(@Param("college") College college);
+
+    @Query("SELECT COUNT(rv) AS reviewCount, COALESCE(AVG(rv.rating), 0) AS averageRating FROM EventReview rv WHERE rv.event = :event")
+    Rating getRating(@Param("event") Event event);
+
+    // CSV export rows, streamed like EventRegistrationRepository.EXPORT_SELECT
+    String EXPORT_SELECT = "SELECT rv.id, e.eid, e.ename, s.sid, s.sname, rv.rating, rv.reviewText, rv.createdAt " +
+           "FROM EventReview rv JOIN rv.event e JOIN rv.student s " +
+           "WHERE e.eid IN :eids ORDER BY e.eid, rv.id";
+
+    @Query("SELECT new com.unbound.backend.dto.ReviewSummary(rv.id, rv.rating, rv.reviewText, rv.createdAt, s.sid, s.sname) " +
+           "FROM EventReview rv JOIN rv.student s WHERE rv.event = :event AND rv.id > :afterId ORDER BY rv.id")
+    List<ReviewSummary> findSummariesByEvent(@Param("event") Event event, @Param("afterId") int afterId, Pageable page);
+
+    interface Rating {
+        Long getReviewCount();
+        Double getAverageRating();
+    }
+}
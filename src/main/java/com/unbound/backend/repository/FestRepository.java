@@ -1,10 +1,42 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.FestSummary;
 import com.unbound.backend.entity.Fest;
 import com.unbound.backend.entity.College;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface FestRepository extends JpaRepository<Fest, Integer> {
+    String SUMMARY_SELECT = "SELECT new com.unbound.backend.dto.FestSummary(f.fid, f.fname, f.fdescription, f.startDate, f.endDate, c.cid, c.cname) " +
+            "FROM Fest f JOIN f.college c ";
+
+    // Served from the second-level query cache; invalidated whenever a fest row is written through Hibernate
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Fest> findByCollege(College college);
-} 
\ No newline at end of file
+
+    @Query(SUMMARY_SELECT + "WHERE f.college = :college AND f.fid > :afterFid ORDER BY f.fid")
+    List<FestSummary> findSummariesByCollege(@Param("college") College college, @Param("afterFid") int afterFid, Pageable page);
+
+    // Explore search; null filters are ignored, name/college are case-insensitive substring matches
+    default List<FestSummary> searchSummaries(String name, String college, String startDate, String endDate,
+                                              int afterFid, Pageable page) {
+        return findSummariesMatching(LikePatterns.escape(name), LikePatterns.escape(college), startDate, endDate, afterFid, page);
+    }
+
+    // name and college must already be escaped for LIKE
+    @Query(SUMMARY_SELECT +
+           "WHERE (:name IS NULL OR LOWER(f.fname) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\') " +
+           "AND (:college IS NULL OR LOWER(c.cname) LIKE LOWER(CONCAT('%', :college, '%')) ESCAPE '\\') " +
+           "AND (:startDate IS NULL OR f.startDate >= :startDate) " +
+           "AND (:endDate IS NULL OR f.endDate <= :endDate) " +
+           "AND f.fid > :afterFid ORDER BY f.fid")
+    List<FestSummary> findSummariesMatching(@Param("name") String name, @Param("college") String college,
+                                            @Param("startDate") String startDate, @Param("endDate") String endDate,
+                                            @Param("afterFid") int afterFid, Pageable page);
+}
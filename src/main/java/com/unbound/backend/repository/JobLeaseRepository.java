@@ -0,0 +1,24 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+// Expiry is set and compared in SQL with the database's clock, never a node's, so nodes with skewed clocks or
+// different time zones still agree on who holds a lease
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+    // Takes an expired lease for ttlMicros; 0 rows when another node (or this one, for an earlier run) still holds it
+    @Modifying
+    @Query(value = "UPDATE job_lease SET holder = :holder, expires_at = TIMESTAMPADD(MICROSECOND, :ttlMicros, LOCALTIMESTAMP(6)) " +
+                   "WHERE name = :name AND expires_at < LOCALTIMESTAMP(6)", nativeQuery = true)
+    int acquire(@Param("name") String name, @Param("holder") String holder, @Param("ttlMicros") long ttlMicros);
+
+    // Moves the expiry of a lease this node holds to ttlMicros from now: later while the job runs, to the end of its
+    // minimum hold after
+    @Modifying
+    @Query(value = "UPDATE job_lease SET expires_at = TIMESTAMPADD(MICROSECOND, :ttlMicros, LOCALTIMESTAMP(6)) " +
+                   "WHERE name = :name AND holder = :holder", nativeQuery = true)
+    int extend(@Param("name") String name, @Param("holder") String holder, @Param("ttlMicros") long ttlMicros);
+}
@@ -0,0 +1,29 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.JobNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+// Heartbeats are written and aged with the database's clock, like the leases in JobLeaseRepository. sinceMicros and
+// beforeMicros are offsets from the database's now, so negative for times in the past
+public interface JobNodeRepository extends JpaRepository<JobNode, String> {
+    @Modifying
+    @Query(value = "UPDATE job_node SET heartbeat_at = LOCALTIMESTAMP(6) WHERE node_id = :nodeId", nativeQuery = true)
+    int touch(@Param("nodeId") String nodeId);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_node (node_id, heartbeat_at) VALUES (:nodeId, LOCALTIMESTAMP(6))", nativeQuery = true)
+    int register(@Param("nodeId") String nodeId);
+
+    @Query(value = "SELECT node_id FROM job_node WHERE heartbeat_at > TIMESTAMPADD(MICROSECOND, :sinceMicros, LOCALTIMESTAMP(6)) " +
+                   "ORDER BY node_id", nativeQuery = true)
+    List<String> findLiveNodeIds(@Param("sinceMicros") long sinceMicros);
+
+    @Modifying
+    @Query(value = "DELETE FROM job_node WHERE heartbeat_at < TIMESTAMPADD(MICROSECOND, :beforeMicros, LOCALTIMESTAMP(6))", nativeQuery = true)
+    int deleteStale(@Param("beforeMicros") long beforeMicros);
+}
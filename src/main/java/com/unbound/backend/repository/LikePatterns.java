@@ -0,0 +1,13 @@
+package com.unbound.backend.repository;
+
+// User input that goes into a LIKE pattern: its wildcards and the escape character match themselves, so a search for
+// "100%" does not match every name. Queries using it must say ESCAPE '\'.
+final class LikePatterns {
+    private LikePatterns() {
+    }
+
+    static String escape(String value) {
+        if (value == null) return null;
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -1,10 +1,49 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.entity.College;
 import com.unbound.backend.entity.Payment;
 import com.unbound.backend.entity.EventRegistration;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
+import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Integer> {
     List<Payment> findByEventRegistration(EventRegistration eventRegistration);
-} 
\ No newline at end of file
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.eventRegistration.event.college = :college AND LOWER(p.status) = 'paid'")
+    long sumPaidAmountByCollege(@Param("college") College college);
+
+    // CSV export rows, streamed like EventRegistrationRepository.EXPORT_SELECT
+    String EXPORT_SELECT = "SELECT p.pid, e.eid, e.ename, r.rid, s.sname, p.amount, p.currency, p.status, p.razorpayOrderId, p.paymentId, p.createdAt " +
+           "FROM Payment p JOIN p.eventRegistration r JOIN r.event e JOIN r.student s " +
+           "WHERE e.eid IN :eids ORDER BY e.eid, p.pid";
+
+    // Unique index lookup; registration, student and event come back in the same query for the receipt email
+    @Query("SELECT p FROM Payment p JOIN FETCH p.eventRegistration r JOIN FETCH r.student JOIN FETCH r.event WHERE p.razorpayOrderId = :razorpayOrderId")
+    Optional<Payment> findByRazorpayOrderIdWithRegistration(@Param("razorpayOrderId") String razorpayOrderId);
+
+    // Compare-and-set on status; returns 0 when the payment has already moved past previousStatuses
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status, p.paymentId = :paymentId WHERE p.razorpayOrderId = :razorpayOrderId AND LOWER(p.status) IN :previousStatuses")
+    int transitionStatus(@Param("razorpayOrderId") String razorpayOrderId, @Param("status") String status,
+                         @Param("paymentId") String paymentId, @Param("previousStatuses") List<String> previousStatuses);
+
+    // Keyset page of pending payments created before the cutoff (createdAt is ISO-8601, so string order is time order)
+    @Query("SELECT p.pid AS pid, p.razorpayOrderId AS razorpayOrderId, p.createdAt AS createdAt " +
+           "FROM Payment p WHERE p.status = 'pending' AND p.createdAt < :createdBefore AND p.pid > :afterPid ORDER BY p.pid")
+    List<PendingPayment> findStalePending(@Param("createdBefore") String createdBefore, @Param("afterPid") Integer afterPid, Pageable page);
+
+    @Modifying
+    @Query("UPDATE Payment p SET p.status = :status WHERE p.pid IN :pids AND p.status = 'pending'")
+    int bulkTransitionFromPending(@Param("pids") List<Integer> pids, @Param("status") String status);
+
+    interface PendingPayment {
+        Integer getPid();
+        String getRazorpayOrderId();
+        String getCreatedAt();
+    }
+}
@@ -1,7 +1,18 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.StudentSummary;
 import com.unbound.backend.entity.Student;
+import com.unbound.backend.entity.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Integer> {
-} 
\ No newline at end of file
+    Optional<Student> findByUserUid(Integer uid);
+
+    @Query("SELECT new com.unbound.backend.dto.StudentSummary(s.sid, s.sname, c.cid, c.cname) " +
+           "FROM TeamMembers tm JOIN tm.student s LEFT JOIN s.college c WHERE tm.team = :team")
+    List<StudentSummary> findSummariesByTeam(@Param("team") Team team);
+}
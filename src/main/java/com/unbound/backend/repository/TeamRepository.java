@@ -1,10 +1,24 @@
 package com.unbound.backend.repository;
 
+import com.unbound.backend.dto.TeamSummary;
 import com.unbound.backend.entity.Team;
 import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Integer> {
+    String SUMMARY_SELECT = "SELECT new com.unbound.backend.dto.TeamSummary(t.tid, t.tname, e.eid, e.ename, s.sid, s.sname) " +
+            "FROM Team t JOIN t.event e LEFT JOIN t.creator s ";
+
     List<Team> findByEvent(Event event);
-} 
\ No newline at end of file
+
+    @Query(SUMMARY_SELECT + "WHERE t.event = :event AND t.tid > :afterTid ORDER BY t.tid")
+    List<TeamSummary> findSummariesByEvent(@Param("event") Event event, @Param("afterTid") int afterTid, Pageable page);
+
+    @Query(SUMMARY_SELECT + "WHERE EXISTS (SELECT 1 FROM TeamMembers tm WHERE tm.team = t AND tm.student = :student)")
+    List<TeamSummary> findSummariesByMember(@Param("student") Student student);
+}
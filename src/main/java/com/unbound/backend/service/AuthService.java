@@ -87,14 +87,10 @@ public class AuthService {
         }
         String sname = null, cname = null;
         if (user.getRole() == User.Role.Student) {
-            Student student = studentRepository.findAll().stream()
-                    .filter(s -> s.getUser().getUid().equals(user.getUid()))
-                    .findFirst().orElse(null);
+            Student student = studentRepository.findByUserUid(user.getUid()).orElse(null);
             if (student != null) sname = student.getSname();
         } else if (user.getRole() == User.Role.College) {
-            College college = collegeRepository.findAll().stream()
-                    .filter(c -> c.getUser().getUid().equals(user.getUid()))
-                    .findFirst().orElse(null);
+            College college = collegeRepository.findByUserUid(user.getUid()).orElse(null);
             if (college != null) cname = college.getCname();
         }
         String token = jwtService.generateToken(user.getEmail(), user.getRole().name());
@@ -135,6 +131,8 @@ public class AuthService {
         emailService.sendEmail(user.getEmail(), subject, body);
     }
 
+    // Transactional: the token's user is a lazy association
+    @Transactional
     public void resetPassword(String token, String newPassword) {
         PasswordResetToken resetToken = passwordResetTokenRepository.findByToken(token)
                 .orElseThrow(() -> new RuntimeException("Invalid token"));
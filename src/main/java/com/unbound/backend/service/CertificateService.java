@@ -2,13 +2,22 @@ package com.unbound.backend.service;
 
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 
 @Service
 public class CertificateService {
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     public byte[] generateCertificate(String studentName, String eventName, String festName, String eventDate) throws Exception {
+        return meterRegistry.timer("certificate.render").recordCallable(() -> render(studentName, eventName, festName, eventDate));
+    }
+
+    private byte[] render(String studentName, String eventName, String festName, String eventDate) throws Exception {
         Document document = new Document(PageSize.A4);
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         PdfWriter.getInstance(document, baos);
@@ -2,12 +2,24 @@ package com.unbound.backend.service;
 
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 @Service
+@Transactional(readOnly = true)
 public class CollegeDashboardService {
+    // Max registration IDs per UPDATE ... IN (...) statement
+    private static final int CERTIFICATE_APPROVAL_CHUNK_SIZE = 1000;
+
     @Autowired
     private EventRepository eventRepository;
     @Autowired
@@ -17,46 +29,98 @@ public class CollegeDashboardService {
     @Autowired
     private EventReviewRepository eventReviewRepository;
 
+    private final DeadlineFanOut fanOut;
+    private final long timeoutMs;
+    // Read-only with a timeout of the deadline (rounded up to whole seconds, JDBC's unit), so a query that misses the
+    // deadline is cancelled by the driver instead of holding its connection until it finishes
+    private final TransactionTemplate aggregateTx;
+    // Last value of every aggregate per college, served (and flagged stale) when a query misses the deadline
+    private final Map<Integer, Map<String, Object>> lastStats;
+
+    public CollegeDashboardService(@Value("${dashboard.fanout.threads:4}") int threads,
+                                   @Value("${dashboard.fanout.queueCapacity:100}") int queueCapacity,
+                                   @Value("${dashboard.fanout.timeoutMs:2000}") long timeoutMs,
+                                   @Value("${dashboard.fanout.cacheSize:1000}") int cacheSize,
+                                   @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                   PlatformTransactionManager transactionManager) {
+        // Every fan-out thread holds a connection while its query runs, whatever the number of concurrent requests
+        if (threads > poolSize / 2) {
+            throw new IllegalStateException("dashboard.fanout.threads (" + threads + ") must be at most half of the connection pool ("
+                    + poolSize + ") so dashboard refreshes cannot starve other requests");
+        }
+        this.fanOut = new DeadlineFanOut("dashboard-fanout", threads, queueCapacity);
+        this.timeoutMs = timeoutMs;
+        this.aggregateTx = new TransactionTemplate(transactionManager);
+        this.aggregateTx.setReadOnly(true);
+        this.aggregateTx.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+        this.lastStats = Collections.synchronizedMap(new LinkedHashMap<Integer, Map<String, Object>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Map<String, Object>> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdown();
+    }
+
     public List<Map<String, Object>> getAllCollegeEvents(College college) {
-        List<Event> events = eventRepository.findByCollege(college);
         List<Map<String, Object>> result = new ArrayList<>();
-        for (Event event : events) {
-            List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-            long totalRegs = regs.size();
-            long paidRegs = regs.stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count();
-            double avgRating = 0.0;
-            int reviewCount = 0;
-            try {
-                var reviewsList = eventReviewRepository.findByEvent(event);
-                reviewCount = reviewsList.size();
-                avgRating = reviewsList.stream().mapToInt(EventReview::getRating).average().orElse(0.0);
-            } catch (Exception e) { throw new RuntimeException("Failed to fetch reviews: " + e.getMessage()); }
+        for (EventRepository.EventStats event : eventRepository.findStatsByCollege(college)) {
             result.add(Map.of(
-                "eventId", event.getEid(),
-                "eventName", event.getEname(),
+                "eventId", event.getEventId(),
+                "eventName", event.getEventName(),
                 "eventDate", event.getEventDate(),
-                "totalRegistrations", totalRegs,
-                "paidRegistrations", paidRegs,
-                "reviewCount", reviewCount,
-                "averageRating", avgRating
+                "totalRegistrations", event.getRegistrations(),
+                "paidRegistrations", event.getPaidRegistrations(),
+                "reviewCount", event.getReviewCount(),
+                "averageRating", event.getAverageRating()
             ));
         }
         return result;
     }
 
+    // One transaction for all chunks, so a failure part-way approves none of the list and the request can simply be retried
+    @Transactional
+    public int approveCertificates(Integer eventId, Collection<Integer> registrationIds) {
+        List<Integer> rids = new ArrayList<>(new LinkedHashSet<>(registrationIds));
+        int approved = 0;
+        for (int from = 0; from < rids.size(); from += CERTIFICATE_APPROVAL_CHUNK_SIZE) {
+            approved += eventRegistrationRepository.approveCertificates(eventId, rids.subList(from, Math.min(from + CERTIFICATE_APPROVAL_CHUNK_SIZE, rids.size())));
+        }
+        return approved;
+    }
+
+    // The five aggregates are independent, so they run in parallel, each in its own read-only transaction. No
+    // transaction here: the request thread would otherwise hold a connection while it waits for the workers (open-in-view
+    // is off, so the controller's lookup has already returned its connection). A request therefore holds no connection
+    // itself, and all requests together hold at most dashboard.fanout.threads, plus any callers running overflow calls.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getCollegeDashboardStats(College college) {
-        List<Event> events = eventRepository.findByCollege(college);
-        int totalEvents = events.size();
-        long totalRegistrations = events.stream().mapToLong(e -> eventRegistrationRepository.findByEvent(e).size()).sum();
-        long totalPaid = events.stream().mapToLong(e -> eventRegistrationRepository.findByEvent(e).stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count()).sum();
-        long totalReviews = events.stream().mapToLong(e -> eventReviewRepository.findByEvent(e).size()).sum();
-        int totalRevenue = events.stream().mapToInt(e -> paymentRepository.findAll().stream().filter(p -> p.getEventRegistration().getEvent().getEid().equals(e.getEid()) && "paid".equalsIgnoreCase(p.getStatus())).mapToInt(p -> p.getAmount()).sum()).sum();
-        return Map.of(
-            "totalEvents", totalEvents,
-            "totalRegistrations", totalRegistrations,
-            "totalPaid", totalPaid,
-            "totalReviews", totalReviews,
-            "totalRevenue", totalRevenue
-        );
+        Map<String, Supplier<?>> queries = new LinkedHashMap<>();
+        queries.put("totalEvents", () -> aggregateTx.execute(status -> eventRepository.countByCollege(college)));
+        queries.put("totalRegistrations", () -> aggregateTx.execute(status -> eventRegistrationRepository.countByCollege(college)));
+        queries.put("totalPaid", () -> aggregateTx.execute(status -> eventRegistrationRepository.countPaidByCollege(college)));
+        queries.put("totalReviews", () -> aggregateTx.execute(status -> eventReviewRepository.countByCollege(college)));
+        queries.put("totalRevenue", () -> aggregateTx.execute(status -> paymentRepository.sumPaidAmountByCollege(college)));
+
+        Map<String, Object> last = lastStats.computeIfAbsent(college.getCid(), cid -> new ConcurrentHashMap<>());
+        Map<String, Object> fresh = fanOut.invokeAll(queries, timeoutMs, last::put);
+        last.putAll(fresh);
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        List<String> stale = new ArrayList<>();
+        for (String key : queries.keySet()) {
+            if (fresh.containsKey(key)) {
+                stats.put(key, fresh.get(key));
+            } else {
+                stats.put(key, last.get(key)); // null until the query has completed once
+                stale.add(key);
+            }
+        }
+        stats.put("stale", stale);
+        return stats;
     }
-} 
\ No newline at end of file
+}
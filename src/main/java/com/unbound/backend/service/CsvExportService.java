@@ -0,0 +1,115 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventReviewRepository;
+import com.unbound.backend.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+// Writes exports row by row from a streamed result set, so heap use does not grow with the number of rows
+@Service
+public class CsvExportService {
+    public enum Dataset {
+        REGISTRATIONS("registrationId", "eventId", "eventName", "studentId", "studentName", "studentEmail",
+                "registeredAt", "status", "paymentStatus", "teamId", "teamName", "certificateApproved"),
+        PAYMENTS("paymentId", "eventId", "eventName", "registrationId", "studentName", "amount", "currency",
+                "status", "razorpayOrderId", "razorpayPaymentId", "createdAt"),
+        REVIEWS("reviewId", "eventId", "eventName", "studentId", "studentName", "rating", "reviewText", "createdAt");
+
+        private final String[] header;
+
+        Dataset(String... header) {
+            this.header = header;
+        }
+
+        public static Dataset of(String name) {
+            for (Dataset d : values()) {
+                if (d.name().equalsIgnoreCase(name)) return d;
+            }
+            return null;
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Set on the export statements only: Integer.MIN_VALUE makes Connector/J stream the result row by row over the
+    // normal text protocol, so the rest of the application keeps client-side prepared statements
+    @Value("${export.fetchSize:1000}")
+    private int fetchSize;
+
+    @Transactional(readOnly = true)
+    public void write(Dataset dataset, Collection<Integer> eventIds, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeRow(writer, dataset.header);
+        if (!eventIds.isEmpty()) {
+            try (Stream<Object[]> rows = rows(dataset, eventIds)) {
+                rows.forEach(row -> {
+                    try {
+                        writeRow(writer, row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        // Flush only: the caller owns the response stream (and may still need to finish a gzip trailer)
+        writer.flush();
+    }
+
+    private Stream<Object[]> rows(Dataset dataset, Collection<Integer> eventIds) {
+        String jpql;
+        switch (dataset) {
+            case PAYMENTS:
+                jpql = PaymentRepository.EXPORT_SELECT;
+                break;
+            case REVIEWS:
+                jpql = EventReviewRepository.EXPORT_SELECT;
+                break;
+            default:
+                jpql = EventRegistrationRepository.EXPORT_SELECT;
+        }
+        return entityManager.createQuery(jpql, Object[].class)
+                .setParameter("eids", eventIds)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static void writeRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 quoting; text cells that a spreadsheet would evaluate as a formula are prefixed with a quote
+    static String escape(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (value instanceof String && !s.isEmpty() && "=+-@\t\r".indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+        return s;
+    }
+}
@@ -0,0 +1,68 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.config.SqlProfile;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+// Runs independent calls in parallel on a bounded pool and waits for all of them up to a single deadline, so the
+// caller waits about as long as the slowest call. Workers see the caller's security context and add their statements
+// to the caller's SQL profile. When the queue is full the caller runs the call itself; with zero threads every call
+// runs on the caller, one after another.
+public class DeadlineFanOut {
+    private final ThreadPoolExecutor pool;
+    private final Executor executor;
+
+    public DeadlineFanOut(String name, int threads, int queueCapacity) {
+        if (threads <= 0) {
+            pool = null;
+            executor = Runnable::run;
+            return;
+        }
+        ThreadFactory factory = new ThreadFactory() {
+            private int next;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, name + "-" + next++);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+        pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(queueCapacity),
+                factory, new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        executor = new DelegatingSecurityContextExecutor(pool);
+    }
+
+    // Returns the results of the calls that completed within timeoutMillis, in the order given; calls that failed or
+    // are still running are absent. Late calls keep running and report to onLateResult when they finish.
+    public Map<String, Object> invokeAll(Map<String, Supplier<?>> calls, long timeoutMillis, BiConsumer<String, Object> onLateResult) {
+        Map<String, CompletableFuture<?>> futures = new LinkedHashMap<>();
+        calls.forEach((key, call) -> futures.put(key, CompletableFuture.supplyAsync(SqlProfile.propagate(call), executor)));
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // Collect whatever finished below
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Map<String, Object> results = new LinkedHashMap<>();
+        futures.forEach((key, future) -> {
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                results.put(key, future.join());
+            } else if (!future.isDone()) {
+                future.thenAccept(value -> onLateResult.accept(key, value));
+            }
+        });
+        return results;
+    }
+
+    public void shutdown() {
+        if (pool != null) pool.shutdownNow();
+    }
+}
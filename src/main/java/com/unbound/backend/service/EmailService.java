@@ -1,20 +1,34 @@
 package com.unbound.backend.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
 public class EmailService {
+    // Proxy: the sender itself is created on first send when FastStartConfig makes it lazy
     @Autowired
+    @Lazy
     private JavaMailSender mailSender;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     public void sendEmail(String to, String subject, String text) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject(subject);
         message.setText(text);
-        mailSender.send(message);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            mailSender.send(message);
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("mail.send", "outcome", outcome));
+        }
     }
 } 
\ No newline at end of file
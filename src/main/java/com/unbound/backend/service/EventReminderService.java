@@ -2,39 +2,64 @@ package com.unbound.backend.service;
 
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.BooleanSupplier;
 
 @Service
 public class EventReminderService {
+    private static final Logger log = LoggerFactory.getLogger(EventReminderService.class);
+
     @Autowired
     private EventRepository eventRepository;
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
     @Autowired
     private EmailService emailService;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    // Tomorrow's events are split into partitions by event id; each partition is sent by one instance
+    @Value("${jobs.reminders.partitions:8}")
+    private int partitions;
+    @Value("${jobs.reminders.minHoldMs:3600000}")
+    private long minHoldMs;
+    @Value("${jobs.reminders.stealAfterMs:15000}")
+    private long stealAfterMs;
 
-    // Runs every day at 8:00 AM
+    // Runs every day at 8:00 AM on every instance; the partition leases make each reminder go out once
     @Scheduled(cron = "0 0 8 * * *")
     public void sendEventReminders() {
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        List<Event> events = eventRepository.findAll();
-        for (Event event : events) {
-            if (tomorrow.toString().equals(event.getEventDate())) {
-                List<EventRegistration> regs = eventRegistrationRepository.findByEvent(event);
-                for (EventRegistration reg : regs) {
-                    Student student = reg.getStudent();
-                    emailService.sendEmail(
-                        student.getUser().getEmail(),
-                        "Event Reminder - " + event.getEname(),
-                        String.format("Dear %s,\n\nThis is a reminder for your upcoming event '%s'.\nEvent Date: %s\nLocation: %s\n\nSee you there!\n\n- Unbound Platform Team",
-                            student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
-                    );
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+        List<Integer> sent = jobLeaseService.runPartitioned("event-reminders", partitions, Duration.ofMillis(minHoldMs),
+                stealAfterMs, (partition, leaseHeld) -> sendReminders(tomorrow, partition, leaseHeld));
+        log.info("Event reminders for {}: partitions {} sent by {}", tomorrow, sent, jobLeaseService.getNodeId());
+    }
+
+    // Stops as soon as the partition's lease is lost: the node that took it over sends the partition from the start
+    void sendReminders(String date, int partition, BooleanSupplier leaseHeld) {
+        for (Event event : eventRepository.findByEventDateInPartition(date, partition, partitions)) {
+            List<EventRegistration> regs = eventRegistrationRepository.findWithStudentUserByEvent(event);
+            for (EventRegistration reg : regs) {
+                if (!leaseHeld.getAsBoolean()) {
+                    log.warn("Stopped reminders for {} partition {}: lease lost", date, partition);
+                    return;
                 }
+                Student student = reg.getStudent();
+                emailService.sendEmail(
+                    student.getUser().getEmail(),
+                    "Event Reminder - " + event.getEname(),
+                    String.format("Dear %s,\n\nThis is a reminder for your upcoming event '%s'.\nEvent Date: %s\nLocation: %s\n\nSee you there!\n\n- Unbound Platform Team",
+                        student.getSname(), event.getEname(), event.getEventDate(), event.getLocation())
+                );
             }
         }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
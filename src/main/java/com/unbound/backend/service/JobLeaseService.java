@@ -0,0 +1,208 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.JobLease;
+import com.unbound.backend.repository.JobLeaseRepository;
+import com.unbound.backend.repository.JobNodeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+// Database leases so that with several instances each scheduled job, or each partition of one, runs on one node.
+// A lease is taken with a conditional UPDATE on job_lease, renewed by this node's heartbeat while the work runs, and
+// kept until at least minHold after the run started, so nodes whose schedule fires a little later skip that run.
+// Partitions are spread over the nodes with a recent heartbeat in job_node; when a node joins or dies the next run
+// rebalances. Expiry and heartbeat times come from the database's clock, so node clocks and time zones do not matter.
+@Service
+public class JobLeaseService {
+    private static final Logger log = LoggerFactory.getLogger(JobLeaseService.class);
+    private static final LocalDateTime NEVER_HELD = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobNodeRepository jobNodeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final long heartbeatMs;
+    private final Duration leaseTtl;
+    // Leases of the work running here, each with a flag the heartbeat sets when it finds the lease taken over
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+    private ScheduledExecutorService heartbeat;
+
+    public JobLeaseService(JobLeaseRepository jobLeaseRepository,
+                           JobNodeRepository jobNodeRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${jobs.nodeId:}") String nodeId,
+                           @Value("${jobs.heartbeatMs:10000}") long heartbeatMs,
+                           @Value("${jobs.leaseTtlMs:30000}") long leaseTtlMs) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.jobNodeRepository = jobNodeRepository;
+        // Own transaction per lease operation: callers may be inside a read-only (replica) transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+        this.heartbeatMs = heartbeatMs;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+    }
+
+    // Own thread rather than the @Scheduled pool: leases must be renewed while a long job occupies the scheduler
+    @PostConstruct
+    public void start() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(() -> {
+            try {
+                heartbeat();
+            } catch (RuntimeException e) {
+                log.warn("Job lease heartbeat failed: {}", e.getMessage());
+            }
+        }, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (heartbeat != null) heartbeat.shutdownNow();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // Records this node as live, renews the leases of the work it is running and forgets long-dead nodes
+    public void heartbeat() {
+        Integer touched = transactionTemplate.execute(status -> jobNodeRepository.touch(nodeId));
+        if (touched == null || touched == 0) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jobNodeRepository.register(nodeId));
+            } catch (DataIntegrityViolationException e) {
+                // This node's other heartbeat (the thread's or a job's) registered it first
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> jobNodeRepository.deleteStale(-micros(leaseTtl.multipliedBy(10))));
+        running.forEach((name, lost) -> {
+            Integer renewed = transactionTemplate.execute(status -> jobLeaseRepository.extend(name, nodeId, micros(leaseTtl)));
+            if ((renewed == null || renewed == 0) && !lost.getAndSet(true)) {
+                log.warn("Lost the lease on {} while running it; telling the work to stop", name);
+            }
+        });
+    }
+
+    // Runs the work if this node gets the lease; false when another node holds it or ran it within its minHold
+    public boolean runExclusively(String name, Duration minHold, Runnable work) {
+        return runLeased(name, minHold, leaseHeld -> work.run());
+    }
+
+    // Same, for work long enough to check leaseHeld as it goes; it turns false once the heartbeat finds that another
+    // node has taken the lease
+    public boolean runExclusively(String name, Duration minHold, Consumer<BooleanSupplier> work) {
+        return runLeased(name, minHold, work);
+    }
+
+    // Runs work(partition, leaseHeld) for this node's share of the job's partitions (partition % liveNodes == this
+    // node's rank), then, after stealAfterMs, for any partition no node has taken yet (a node that died or joined since
+    // the last heartbeat). Returns the partitions run here.
+    public List<Integer> runPartitioned(String job, int partitions, Duration minHold, long stealAfterMs, PartitionWork work) {
+        heartbeat();
+        List<String> live = jobNodeRepository.findLiveNodeIds(-micros(leaseTtl));
+        int rank = Math.max(0, live.indexOf(nodeId));
+        int nodes = Math.max(1, live.size());
+        List<Integer> ran = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            if (partition % nodes == rank) runPartition(job, partition, minHold, work, ran);
+        }
+        if (nodes > 1 && stealAfterMs > 0) {
+            try {
+                Thread.sleep(stealAfterMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ran;
+            }
+        }
+        for (int partition = 0; partition < partitions; partition++) {
+            if (partition % nodes != rank) runPartition(job, partition, minHold, work, ran);
+        }
+        return ran;
+    }
+
+    private void runPartition(String job, int partition, Duration minHold, PartitionWork work, List<Integer> ran) {
+        if (runLeased(job + "#" + partition, minHold, leaseHeld -> work.run(partition, leaseHeld))) {
+            ran.add(partition);
+        }
+    }
+
+    // The minimum hold is measured on this node's monotonic clock and only the remainder is sent, so the lease's
+    // expiry stays on the database's clock
+    private boolean runLeased(String name, Duration minHold, Consumer<BooleanSupplier> work) {
+        long startNanos = System.nanoTime();
+        if (!acquire(name)) {
+            return false;
+        }
+        AtomicBoolean lost = new AtomicBoolean();
+        running.put(name, lost);
+        try {
+            work.accept(() -> !lost.get());
+        } finally {
+            running.remove(name);
+            long remainingMicros = Math.max(0, micros(minHold) - (System.nanoTime() - startNanos) / 1000);
+            transactionTemplate.execute(status -> jobLeaseRepository.extend(name, nodeId, remainingMicros));
+        }
+        return true;
+    }
+
+    private boolean acquire(String name) {
+        if (!jobLeaseRepository.existsById(name)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.saveAndFlush(new JobLease(name, null, NEVER_HELD)));
+            } catch (DataIntegrityViolationException e) {
+                // Another node created it first
+            }
+        }
+        Integer acquired = transactionTemplate.execute(status -> jobLeaseRepository.acquire(name, nodeId, micros(leaseTtl)));
+        return acquired != null && acquired == 1;
+    }
+
+    private static long micros(Duration duration) {
+        return TimeUnit.NANOSECONDS.toMicros(duration.toNanos());
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    // One partition's work. leaseHeld turns false once the heartbeat finds that another node has taken the partition's
+    // lease; the work should then stop, or both nodes would be doing the partition
+    @FunctionalInterface
+    public interface PartitionWork {
+        void run(int partition, BooleanSupplier leaseHeld);
+    }
+}
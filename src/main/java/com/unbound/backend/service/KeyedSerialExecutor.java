@@ -0,0 +1,40 @@
+package com.unbound.backend.service;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Runs tasks for the same key strictly in submission order while different keys run in parallel.
+// Each key hashes to one single-threaded stripe with a bounded queue; a full stripe rejects instead of queueing forever.
+public class KeyedSerialExecutor {
+    private final ThreadPoolExecutor[] stripes;
+
+    public KeyedSerialExecutor(String name, int stripeCount, int queueCapacity) {
+        stripes = new ThreadPoolExecutor[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            String threadName = name + "-" + i;
+            stripes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+    }
+
+    public void execute(Object key, Runnable task) throws RejectedExecutionException {
+        stripes[Math.floorMod(key.hashCode(), stripes.length)].execute(task);
+    }
+
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.shutdown();
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.awaitTermination(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.unbound.backend.service;
+
+import org.json.JSONObject;
+
+// Abstraction over the payment gateway so the app, tests and benchmarks can swap in a local stub
+public interface PaymentGatewayClient {
+    // amount is in the smallest currency unit (paise for INR)
+    JSONObject createOrder(int amount, String currency, String receipt);
+
+    // Current order state as reported by the gateway; "status" is one of created, attempted, paid
+    JSONObject fetchOrder(String orderId);
+}
@@ -0,0 +1,144 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.PaymentRepository;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+// Settles payments whose client never called /verify: pages through stale pending payments in bounded batches,
+// asks the gateway for the order status and applies paid/expired transitions in bulk. Batch size, batches per run
+// and the pause between batches cap how much load a run can put on the database and the gateway.
+@Service
+@ConditionalOnProperty(name = "payment.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentReconciliationService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentReconciliationService.class);
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    @Lazy
+    private PaymentGatewayClient paymentGatewayClient;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${payment.reconcile.staleAfterMinutes:30}")
+    private long staleAfterMinutes;
+    @Value("${payment.reconcile.expireAfterMinutes:1440}")
+    private long expireAfterMinutes;
+    @Value("${payment.reconcile.batchSize:100}")
+    private int batchSize;
+    @Value("${payment.reconcile.maxBatchesPerRun:10}")
+    private int maxBatchesPerRun;
+    @Value("${payment.reconcile.pauseBetweenBatchesMs:500}")
+    private long pauseBetweenBatchesMs;
+    // Just under the interval: with several instances the cluster runs about one reconciliation per interval
+    @Value("${payment.reconcile.leaseMinHoldMs:240000}")
+    private long leaseMinHoldMs;
+
+    @Scheduled(fixedDelayString = "${payment.reconcile.intervalMs:300000}", initialDelayString = "${payment.reconcile.initialDelayMs:60000}")
+    public void reconcileStalePayments() {
+        jobLeaseService.runExclusively("payment-reconciliation", Duration.ofMillis(leaseMinHoldMs), leaseHeld -> {
+            ReconciliationResult result = reconcile(LocalDateTime.now(), leaseHeld);
+            if (result.checked() > 0) {
+                log.info("Payment reconciliation: checked={}, paid={}, expired={}, gatewayErrors={}",
+                        result.checked(), result.paid(), result.expired(), result.gatewayErrors());
+            }
+        });
+    }
+
+    // Checks the lease between batches: once another node has taken it over, that node is reconciling the same payments
+    public ReconciliationResult reconcile(LocalDateTime now, BooleanSupplier leaseHeld) {
+        String staleCutoff = now.minusMinutes(staleAfterMinutes).format(DateTimeFormatter.ISO_DATE_TIME);
+        String expireCutoff = now.minusMinutes(expireAfterMinutes).format(DateTimeFormatter.ISO_DATE_TIME);
+        int checked = 0, paid = 0, expired = 0, gatewayErrors = 0;
+        int afterPid = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            if (!leaseHeld.getAsBoolean()) {
+                log.warn("Stopped payment reconciliation after {} batches: lease lost", batch);
+                break;
+            }
+            List<PaymentRepository.PendingPayment> pending =
+                    paymentRepository.findStalePending(staleCutoff, afterPid, PageRequest.of(0, batchSize));
+            if (pending.isEmpty()) break;
+            List<Integer> paidPids = new ArrayList<>(), expiredPids = new ArrayList<>();
+            boolean gatewayUnavailable = false;
+            for (PaymentRepository.PendingPayment payment : pending) {
+                afterPid = payment.getPid();
+                checked++;
+                String gatewayStatus;
+                try {
+                    JSONObject order = paymentGatewayClient.fetchOrder(payment.getRazorpayOrderId());
+                    gatewayStatus = order.optString("status");
+                } catch (PaymentGatewayException e) {
+                    gatewayErrors++;
+                    gatewayUnavailable = true;
+                    break;
+                }
+                if ("paid".equalsIgnoreCase(gatewayStatus)) {
+                    paidPids.add(payment.getPid());
+                } else if (payment.getCreatedAt().compareTo(expireCutoff) < 0) {
+                    expiredPids.add(payment.getPid());
+                }
+            }
+            int[] applied = applyTransitions(paidPids, expiredPids);
+            paid += applied[0];
+            expired += applied[1];
+            // Stop early rather than hammer a gateway that is failing or whose circuit is open
+            if (gatewayUnavailable || pending.size() < batchSize) break;
+            if (!pause()) break;
+        }
+        return new ReconciliationResult(checked, paid, expired, gatewayErrors);
+    }
+
+    // Registrations follow only the payments this run actually moved out of pending (see the repository queries)
+    private int[] applyTransitions(List<Integer> paidPids, List<Integer> expiredPids) {
+        if (paidPids.isEmpty() && expiredPids.isEmpty()) {
+            return new int[] {0, 0};
+        }
+        return transactionTemplate.execute(status -> {
+            int paid = 0, expired = 0;
+            if (!paidPids.isEmpty()) {
+                paid = paymentRepository.bulkTransitionFromPending(paidPids, "paid");
+                eventRegistrationRepository.markPaidForPayments(paidPids);
+            }
+            if (!expiredPids.isEmpty()) {
+                expired = paymentRepository.bulkTransitionFromPending(expiredPids, "failed");
+                eventRegistrationRepository.expireUnpaid(expiredPids);
+            }
+            return new int[] {paid, expired};
+        });
+    }
+
+    private boolean pause() {
+        if (pauseBetweenBatchesMs <= 0) return true;
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public record ReconciliationResult(int checked, int paid, int expired, int gatewayErrors) {}
+}
@@ -1,51 +1,61 @@
 package com.unbound.backend.service;
 
-import com.razorpay.Order;
-import com.razorpay.RazorpayClient;
-import com.razorpay.RazorpayException;
+import com.unbound.backend.entity.Event;
 import com.unbound.backend.entity.EventRegistration;
 import com.unbound.backend.entity.Payment;
 import com.unbound.backend.entity.Student;
 import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.EventRepository;
 import com.unbound.backend.repository.PaymentRepository;
 import com.unbound.backend.service.EmailService;
 import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class PaymentService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentService.class);
+
     @Autowired
     private PaymentRepository paymentRepository;
 
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    @Lazy
+    private PaymentGatewayClient paymentGatewayClient;
+
     @Value("${razorpay.keyId}")
     private String razorpayKeyId;
 
     @Value("${razorpay.keySecret}")
     private String razorpayKeySecret;
 
-    public Order createOrder(EventRegistration registration, int amount, String currency, String receiptEmail) throws RazorpayException {
-        RazorpayClient client = new RazorpayClient(razorpayKeyId, razorpayKeySecret);
-        JSONObject orderRequest = new JSONObject();
-        orderRequest.put("amount", amount * 100); // amount in paise
-        orderRequest.put("currency", currency);
-        orderRequest.put("receipt", "reg-" + registration.getRid());
-        orderRequest.put("payment_capture", 1);
-        Order order = client.orders.create(orderRequest);
+    public JSONObject createOrder(EventRegistration registration, int amount, String currency, String receiptEmail) {
+        JSONObject order = paymentGatewayClient.createOrder(amount * 100, currency, "reg-" + registration.getRid()); // amount in paise
 
         Payment payment = Payment.builder()
                 .eventRegistration(registration)
-                .razorpayOrderId(order.get("id"))
+                .razorpayOrderId(order.getString("id"))
                 .status("pending")
                 .amount(amount)
                 .currency(currency)
@@ -56,21 +66,39 @@ public class PaymentService {
         return order;
     }
 
-    public void updatePaymentStatus(String razorpayOrderId, String status, String paymentId) {
-        Payment payment = paymentRepository.findAll().stream()
-                .filter(p -> p.getRazorpayOrderId().equals(razorpayOrderId))
-                .findFirst().orElse(null);
+    // Statuses a payment may move out of for each target status; "paid" is terminal
+    private static final Map<String, List<String>> ALLOWED_PREVIOUS_STATUSES = Map.of(
+        "paid", List.of("pending", "failed"),
+        "failed", List.of("pending")
+    );
+
+    // Registration paymentStatus for a payment that arrived after its seat was given away
+    private static final String REFUND_DUE = "refund_due";
+
+    // Guarded transition: duplicate or out-of-order notifications (client verify, webhook retries) match no row,
+    // so they never write twice or send a second receipt. Returns true if this call applied the transition.
+    @Transactional
+    public boolean updatePaymentStatus(String razorpayOrderId, String status, String paymentId) {
+        if (status == null) {
+            throw new RuntimeException("Payment status is required for order " + razorpayOrderId);
+        }
+        List<String> previousStatuses = ALLOWED_PREVIOUS_STATUSES.getOrDefault(status.toLowerCase(), List.of("pending"));
+        if (paymentRepository.transitionStatus(razorpayOrderId, status, paymentId, previousStatuses) == 0) {
+            return false;
+        }
+        Payment payment = paymentRepository.findByRazorpayOrderIdWithRegistration(razorpayOrderId).orElse(null);
         if (payment != null) {
-            payment.setStatus(status);
-            payment.setPaymentId(paymentId);
-            paymentRepository.save(payment);
             // Update EventRegistration paymentStatus
             EventRegistration reg = payment.getEventRegistration();
             if (reg != null) {
-                reg.setPaymentStatus(status);
+                boolean seatHeld = true;
+                if ("paid".equalsIgnoreCase(status) && "expired".equals(reg.getStatus())) {
+                    seatHeld = reclaimSeat(reg, razorpayOrderId);
+                }
+                reg.setPaymentStatus(seatHeld ? status : REFUND_DUE);
                 eventRegistrationRepository.save(reg);
                 // Send email receipt if payment is successful
-                if ("paid".equalsIgnoreCase(status) && payment.getReceiptEmail() != null) {
+                if ("paid".equalsIgnoreCase(status) && seatHeld && payment.getReceiptEmail() != null) {
                     Student student = reg.getStudent();
                     String subject = "Payment Receipt - Unbound Event Registration";
                     String text = String.format("Dear %s,\n\nYour payment for event '%s' (amount: %d %s) was successful.\nPayment ID: %s\nOrder ID: %s\n\nThank you for registering!\n\n- Unbound Platform Team",
@@ -81,10 +109,46 @@ public class PaymentService {
                         paymentId,
                         razorpayOrderId
                     );
-                    emailService.sendEmail(payment.getReceiptEmail(), subject, text);
+                    sendAfterCommit(payment.getReceiptEmail(), subject, text);
                 }
             }
         }
+        return true;
+    }
+
+    // A late payment (failed -> paid) can land after the reconciler expired the registration and released its seat. The
+    // seat is taken back if the event still has room; otherwise the registration stays expired and is flagged
+    // refund_due for the organizers, since the money has been captured. The event row stays locked until the payment
+    // commits, so two late payments for the last seat cannot both see it free.
+    private boolean reclaimSeat(EventRegistration reg, String razorpayOrderId) {
+        Event event = eventRepository.findByIdForUpdate(reg.getEvent().getEid()).orElseThrow();
+        long seatsTaken = eventRegistrationRepository.countByEventAndStatusNot(event, "expired");
+        if (seatsTaken < event.getCapacity()) {
+            reg.setStatus("registered");
+            return true;
+        }
+        log.warn("Order {} was paid after registration {} expired and event {} is full; refund due",
+                razorpayOrderId, reg.getRid(), reg.getEvent().getEid());
+        return false;
+    }
+
+    // The receipt goes out once the transition has committed, so the SMTP call holds neither the payment row lock nor
+    // the connection; a failed send is logged and does not undo the payment
+    private void sendAfterCommit(String to, String subject, String text) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emailService.sendEmail(to, subject, text);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    emailService.sendEmail(to, subject, text);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to send payment receipt to {}: {}", to, e.getMessage());
+                }
+            }
+        });
     }
 
     // added this code: public getters for Razorpay keys
@@ -0,0 +1,87 @@
+package com.unbound.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+// Accepts verified gateway webhooks and applies them off the request thread. Deliveries are de-duplicated on
+// payment ID + target status, and transitions for the same order are serialised so they apply in arrival order.
+@Service
+public class PaymentWebhookService {
+    private static final Logger log = LoggerFactory.getLogger(PaymentWebhookService.class);
+
+    private static final Map<String, String> STATUS_BY_EVENT = Map.of(
+        "payment.captured", "paid",
+        "order.paid", "paid",
+        "payment.failed", "failed"
+    );
+
+    @Autowired
+    private PaymentService paymentService;
+
+    private final KeyedSerialExecutor executor;
+    private final Map<String, Boolean> recentDeliveries;
+
+    public PaymentWebhookService(@Value("${razorpay.webhook.workers:4}") int workers,
+                                 @Value("${razorpay.webhook.queueCapacity:1000}") int queueCapacity,
+                                 @Value("${razorpay.webhook.dedupeCapacity:10000}") int dedupeCapacity) {
+        this.executor = new KeyedSerialExecutor("payment-webhook", workers, queueCapacity);
+        this.recentDeliveries = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > dedupeCapacity;
+            }
+        });
+    }
+
+    // Returns false only when the event could not be queued, so the caller can ask the gateway to retry later
+    public boolean submit(JSONObject webhook) {
+        String status = STATUS_BY_EVENT.get(webhook.optString("event"));
+        JSONObject payload = webhook.optJSONObject("payload");
+        JSONObject paymentWrapper = payload != null ? payload.optJSONObject("payment") : null;
+        JSONObject payment = paymentWrapper != null ? paymentWrapper.optJSONObject("entity") : null;
+        if (status == null || payment == null) {
+            return true; // event types we do not act on are simply acknowledged
+        }
+        String paymentId = payment.optString("id", null);
+        String orderId = payment.optString("order_id", null);
+        if (paymentId == null || orderId == null) {
+            return true;
+        }
+        String deliveryKey = paymentId + ":" + status;
+        if (recentDeliveries.putIfAbsent(deliveryKey, Boolean.TRUE) != null) {
+            return true; // duplicate delivery
+        }
+        try {
+            executor.execute(orderId, () -> apply(orderId, status, paymentId, deliveryKey));
+            return true;
+        } catch (RejectedExecutionException e) {
+            recentDeliveries.remove(deliveryKey);
+            return false;
+        }
+    }
+
+    private void apply(String orderId, String status, String paymentId, String deliveryKey) {
+        try {
+            paymentService.updatePaymentStatus(orderId, status, paymentId);
+        } catch (RuntimeException e) {
+            // Forget the delivery so the gateway's next retry is processed
+            recentDeliveries.remove(deliveryKey);
+            log.warn("Failed to apply webhook for order {} (payment {}): {}", orderId, paymentId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown(10_000);
+    }
+}
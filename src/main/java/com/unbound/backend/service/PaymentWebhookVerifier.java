@@ -0,0 +1,58 @@
+package com.unbound.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Verifies X-Razorpay-Signature (hex HMAC-SHA256 of the raw body). Initialised Mac instances are pooled and
+// reused because Mac.getInstance + init per request is the expensive part; doFinal resets a Mac for reuse.
+@Component
+public class PaymentWebhookVerifier {
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Queue<Mac> macPool = new ConcurrentLinkedQueue<>();
+
+    public PaymentWebhookVerifier(@Value("${razorpay.webhookSecret:}") String webhookSecret) {
+        this.key = webhookSecret.isEmpty() ? null : new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public boolean isValid(byte[] payload, String signature) {
+        if (key == null || signature == null) {
+            return false;
+        }
+        byte[] provided;
+        try {
+            provided = HexFormat.of().parseHex(signature.trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        Mac mac = macPool.poll();
+        if (mac == null) {
+            mac = newMac();
+        }
+        try {
+            return MessageDigest.isEqual(mac.doFinal(payload), provided);
+        } finally {
+            macPool.offer(mac);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialise webhook HMAC", e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.unbound.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+// Single shared HTTP client for the Razorpay REST API: pooled keep-alive connections, explicit timeouts,
+// a circuit breaker and per-operation latency timers
+@Component
+@ConditionalOnProperty(name = "razorpay.gateway", havingValue = "razorpay", matchIfMissing = true)
+public class RazorpayGatewayClient implements PaymentGatewayClient {
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+    private final Duration readTimeout;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    public RazorpayGatewayClient(@Value("${razorpay.keyId}") String keyId,
+                                 @Value("${razorpay.keySecret}") String keySecret,
+                                 @Value("${razorpay.baseUrl:https://api.razorpay.com/v1}") String baseUrl,
+                                 @Value("${razorpay.connectTimeoutMs:2000}") long connectTimeoutMs,
+                                 @Value("${razorpay.readTimeoutMs:5000}") long readTimeoutMs,
+                                 @Value("${razorpay.circuitBreaker.failureThreshold:5}") int failureThreshold,
+                                 @Value("${razorpay.circuitBreaker.openMs:30000}") long openMs,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.baseUrl = baseUrl;
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((keyId + ":" + keySecret).getBytes(StandardCharsets.UTF_8));
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        Gauge.builder("payment.gateway.circuit.open", circuitBreaker, cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(this.meterRegistry);
+    }
+
+    @Override
+    public JSONObject createOrder(int amount, String currency, String receipt) {
+        JSONObject orderRequest = new JSONObject();
+        orderRequest.put("amount", amount);
+        orderRequest.put("currency", currency);
+        orderRequest.put("receipt", receipt);
+        orderRequest.put("payment_capture", 1);
+        HttpRequest request = requestBuilder("/orders")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(orderRequest.toString()))
+                .build();
+        return execute("create_order", request);
+    }
+
+    @Override
+    public JSONObject fetchOrder(String orderId) {
+        HttpRequest request = requestBuilder("/orders/" + URLEncoder.encode(orderId, StandardCharsets.UTF_8))
+                .GET()
+                .build();
+        return execute("fetch_order", request);
+    }
+
+    private HttpRequest.Builder requestBuilder(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(readTimeout)
+                .header("Authorization", authorization);
+    }
+
+    private JSONObject execute(String operation, HttpRequest request) {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter("payment.gateway.rejected", "operation", operation).increment();
+            throw new PaymentGatewayException("Payment gateway temporarily unavailable (circuit open)");
+        }
+        String outcome = "error";
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int status = response.statusCode();
+            if (status >= 500) {
+                circuitBreaker.recordFailure();
+                outcome = "server_error";
+                throw new PaymentGatewayException("Payment gateway returned HTTP " + status + " for " + operation);
+            }
+            JSONObject body;
+            try {
+                body = new JSONObject(response.body());
+            } catch (JSONException e) {
+                // Not the gateway's API answering, e.g. an HTML error page from a proxy in front of it
+                circuitBreaker.recordFailure();
+                outcome = "invalid_response";
+                throw new PaymentGatewayException("Payment gateway returned a non-JSON body (HTTP " + status + ") for " + operation, e);
+            }
+            // 4xx responses mean the gateway is healthy but rejected the request
+            circuitBreaker.recordSuccess();
+            if (status >= 400) {
+                outcome = "client_error";
+                String description = body.optJSONObject("error") != null
+                        ? body.getJSONObject("error").optString("description", "HTTP " + status)
+                        : "HTTP " + status;
+                throw new PaymentGatewayException(description);
+            }
+            outcome = "success";
+            return body;
+        } catch (PaymentGatewayException e) {
+            throw e;
+        } catch (IOException e) {
+            circuitBreaker.recordFailure();
+            outcome = "io_error";
+            throw new PaymentGatewayException("Payment gateway call failed for " + operation + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.recordFailure();
+            throw new PaymentGatewayException("Interrupted while calling payment gateway for " + operation, e);
+        } catch (RuntimeException e) {
+            // Every acquired call must record an outcome, or a half-open breaker never leaves HALF_OPEN
+            circuitBreaker.recordFailure();
+            throw new PaymentGatewayException("Payment gateway call failed for " + operation + ": " + e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("payment.gateway.requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
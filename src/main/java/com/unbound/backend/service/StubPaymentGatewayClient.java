@@ -0,0 +1,49 @@
+package com.unbound.backend.service;
+
+import org.json.JSONObject;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-process gateway used by tests, benchmarks and local runs (razorpay.gateway=stub); never leaves the JVM
+@Component
+@ConditionalOnProperty(name = "razorpay.gateway", havingValue = "stub")
+public class StubPaymentGatewayClient implements PaymentGatewayClient {
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, JSONObject> orders = new ConcurrentHashMap<>();
+
+    @Override
+    public JSONObject createOrder(int amount, String currency, String receipt) {
+        String id = "order_stub_" + sequence.incrementAndGet();
+        JSONObject order = new JSONObject();
+        order.put("id", id);
+        order.put("entity", "order");
+        order.put("amount", amount);
+        order.put("currency", currency);
+        order.put("receipt", receipt);
+        order.put("status", "created");
+        order.put("created_at", System.currentTimeMillis() / 1000);
+        orders.put(id, order);
+        return new JSONObject(order.toMap());
+    }
+
+    @Override
+    public JSONObject fetchOrder(String orderId) {
+        JSONObject order = orders.get(orderId);
+        if (order == null) {
+            throw new PaymentGatewayException("Unknown stub order: " + orderId);
+        }
+        return new JSONObject(order.toMap());
+    }
+
+    public void setOrderStatus(String orderId, String status) {
+        JSONObject order = orders.get(orderId);
+        if (order == null) {
+            throw new PaymentGatewayException("Unknown stub order: " + orderId);
+        }
+        order.put("status", status);
+    }
+}
@@ -3,20 +3,24 @@ package com.unbound.backend.service;
 import com.unbound.backend.entity.*;
 import com.unbound.backend.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 
 @Service
+@Transactional(readOnly = true)
 public class StudentDashboardService {
     @Autowired
     private EventRegistrationRepository eventRegistrationRepository;
-    @Autowired
-    private EventReviewRepository eventReviewRepository;
 
-    public List<Map<String, Object>> getMyRegistrations(Student student) {
-        List<EventRegistration> regs = eventRegistrationRepository.findByStudent(student);
+    public List<Map<String, Object>> getMyRegistrations(Student student, int afterRid, Pageable page) {
+        List<Object[]> rows = eventRegistrationRepository.findByStudentWithReview(student, afterRid, page);
+        java.time.LocalDate today = java.time.LocalDate.now();
         List<Map<String, Object>> result = new ArrayList<>();
-        for (EventRegistration reg : regs) {
+        for (Object[] row : rows) {
+            EventRegistration reg = (EventRegistration) row[0];
+            EventReview review = (EventReview) row[1];
             Event event = reg.getEvent();
             Map<String, Object> eventInfo = new HashMap<>();
             eventInfo.put("registrationId", reg.getRid());
@@ -30,19 +34,18 @@ public class StudentDashboardService {
             eventInfo.put("teamId", reg.getTeam() != null ? reg.getTeam().getTid() : null);
             eventInfo.put("teamName", reg.getTeam() != null ? reg.getTeam().getTname() : null);
             eventInfo.put("ticketUrl", null);
-            var reviewOpt = eventReviewRepository.findByEventAndStudent(event, student);
-            if (reviewOpt.isPresent()) {
+            if (review != null) {
                 eventInfo.put("reviewed", true);
                 eventInfo.put("review", Map.of(
-                    "rating", reviewOpt.get().getRating(),
-                    "reviewText", reviewOpt.get().getReviewText(),
-                    "createdAt", reviewOpt.get().getCreatedAt()
+                    "rating", review.getRating(),
+                    "reviewText", review.getReviewText(),
+                    "createdAt", review.getCreatedAt()
                 ));
             } else {
                 eventInfo.put("reviewed", false);
                 boolean canReview = false;
                 try {
-                    canReview = java.time.LocalDate.now().isAfter(java.time.LocalDate.parse(event.getEventDate()));
+                    canReview = today.isAfter(java.time.LocalDate.parse(event.getEventDate()));
                 } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
                 eventInfo.put("canReview", canReview);
             }
@@ -52,26 +55,13 @@ public class StudentDashboardService {
     }
 
     public Map<String, Object> getStudentDashboardStats(Student student) {
-        List<EventRegistration> regs = eventRegistrationRepository.findByStudent(student);
-        int totalEvents = regs.size();
-        long totalPaid = regs.stream().filter(r -> "paid".equalsIgnoreCase(r.getPaymentStatus())).count();
-        long reviewsGiven = regs.stream().filter(r -> eventReviewRepository.findByEventAndStudent(r.getEvent(), student).isPresent()).count();
-        long upcoming = regs.stream().filter(r -> {
-            try {
-                return java.time.LocalDate.parse(r.getEvent().getEventDate()).isAfter(java.time.LocalDate.now());
-            } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
-        }).count();
-        long past = regs.stream().filter(r -> {
-            try {
-                return java.time.LocalDate.parse(r.getEvent().getEventDate()).isBefore(java.time.LocalDate.now());
-            } catch (Exception e) { throw new RuntimeException("Invalid event date format"); }
-        }).count();
+        var stats = eventRegistrationRepository.getStudentDashboardStats(student, java.time.LocalDate.now().toString());
         return Map.of(
-            "totalEvents", totalEvents,
-            "totalPaid", totalPaid,
-            "reviewsGiven", reviewsGiven,
-            "upcomingEvents", upcoming,
-            "pastEvents", past
+            "totalEvents", stats.getTotalEvents(),
+            "totalPaid", stats.getTotalPaid(),
+            "reviewsGiven", stats.getReviewsGiven(),
+            "upcomingEvents", stats.getUpcomingEvents(),
+            "pastEvents", stats.getPastEvents()
         );
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.unbound.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Service
+public class ThumbnailService {
+    public static final int WIDTH = 300;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void writeThumbnail(InputStream image, Path target) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try (OutputStream out = Files.newOutputStream(target)) {
+            BufferedImage original = ImageIO.read(image);
+            if (original == null) throw new IOException("Unsupported image format");
+            writeThumbnail(original, out);
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("poster.thumbnail", "outcome", outcome));
+        }
+    }
+
+    // Scales to WIDTH pixels wide, keeping the aspect ratio, and encodes as JPEG
+    public void writeThumbnail(BufferedImage original, OutputStream out) throws IOException {
+        int height = (int) (original.getHeight() * ((double) WIDTH / original.getWidth()));
+        Image scaled = original.getScaledInstance(WIDTH, height, Image.SCALE_SMOOTH);
+        BufferedImage thumbnail = new BufferedImage(WIDTH, height, BufferedImage.TYPE_INT_RGB);
+        thumbnail.getGraphics().drawImage(scaled, 0, 0, null);
+        ImageIO.write(thumbnail, "jpg", out);
+    }
+}
@@ -0,0 +1,138 @@
+-- Schema as it stood when ddl-auto=update managed it, with no index beyond the keys the mappings declared. Existing
+-- databases are baselined at this version (spring.flyway.baseline-on-migrate) and start with V2, so every index added
+-- since belongs in V2 or later.
+
+CREATE TABLE user (
+    uid INT NOT NULL AUTO_INCREMENT,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    role ENUM('Student', 'College') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (uid),
+    CONSTRAINT uk_user_email UNIQUE (email)
+);
+
+CREATE TABLE college (
+    cid INT NOT NULL AUTO_INCREMENT,
+    uid INT NOT NULL,
+    cname VARCHAR(255) NOT NULL,
+    cdescription TEXT,
+    address TEXT,
+    contact_email VARCHAR(255),
+    PRIMARY KEY (cid),
+    CONSTRAINT uk_college_user UNIQUE (uid),
+    CONSTRAINT fk_college_user FOREIGN KEY (uid) REFERENCES user (uid)
+);
+
+CREATE TABLE student (
+    sid INT NOT NULL AUTO_INCREMENT,
+    uid INT NOT NULL,
+    cid INT NOT NULL,
+    sname VARCHAR(255) NOT NULL,
+    PRIMARY KEY (sid),
+    CONSTRAINT uk_student_user UNIQUE (uid),
+    CONSTRAINT fk_student_user FOREIGN KEY (uid) REFERENCES user (uid),
+    CONSTRAINT fk_student_college FOREIGN KEY (cid) REFERENCES college (cid)
+);
+
+CREATE TABLE fest (
+    fid INT NOT NULL AUTO_INCREMENT,
+    cid INT NOT NULL,
+    fname VARCHAR(255) NOT NULL,
+    fdescription TEXT,
+    start_date VARCHAR(255) NOT NULL,
+    end_date VARCHAR(255) NOT NULL,
+    PRIMARY KEY (fid),
+    CONSTRAINT fk_fest_college FOREIGN KEY (cid) REFERENCES college (cid)
+);
+
+CREATE TABLE event (
+    eid INT NOT NULL AUTO_INCREMENT,
+    cid INT NOT NULL,
+    fid INT,
+    ename VARCHAR(255) NOT NULL,
+    edescription TEXT,
+    event_date VARCHAR(255) NOT NULL,
+    fees INT NOT NULL,
+    location VARCHAR(255),
+    capacity INT NOT NULL,
+    team_is_allowed BIT NOT NULL,
+    category VARCHAR(100),
+    mode VARCHAR(20),
+    poster_url VARCHAR(255),
+    poster_thumbnail_url VARCHAR(255),
+    poster_approved BIT NOT NULL,
+    PRIMARY KEY (eid),
+    CONSTRAINT fk_event_college FOREIGN KEY (cid) REFERENCES college (cid),
+    CONSTRAINT fk_event_fest FOREIGN KEY (fid) REFERENCES fest (fid)
+);
+
+CREATE TABLE team (
+    tid INT NOT NULL AUTO_INCREMENT,
+    eid INT NOT NULL,
+    tname VARCHAR(255) NOT NULL,
+    sid INT NOT NULL,
+    PRIMARY KEY (tid),
+    CONSTRAINT fk_team_event FOREIGN KEY (eid) REFERENCES event (eid),
+    CONSTRAINT fk_team_creator FOREIGN KEY (sid) REFERENCES student (sid)
+);
+
+CREATE TABLE team_members (
+    tid INT NOT NULL,
+    sid INT NOT NULL,
+    PRIMARY KEY (tid, sid),
+    CONSTRAINT fk_team_members_team FOREIGN KEY (tid) REFERENCES team (tid),
+    CONSTRAINT fk_team_members_student FOREIGN KEY (sid) REFERENCES student (sid)
+);
+
+CREATE TABLE event_registration (
+    rid INT NOT NULL AUTO_INCREMENT,
+    eid INT NOT NULL,
+    sid INT NOT NULL,
+    tid INT,
+    erdate_time VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    payment_status VARCHAR(255) NOT NULL,
+    certificate_approved BIT NOT NULL,
+    PRIMARY KEY (rid),
+    CONSTRAINT fk_registration_event FOREIGN KEY (eid) REFERENCES event (eid),
+    CONSTRAINT fk_registration_student FOREIGN KEY (sid) REFERENCES student (sid),
+    CONSTRAINT fk_registration_team FOREIGN KEY (tid) REFERENCES team (tid)
+);
+
+CREATE TABLE payment (
+    pid INT NOT NULL AUTO_INCREMENT,
+    rid INT NOT NULL,
+    razorpay_order_id VARCHAR(255) NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    amount INT NOT NULL,
+    currency VARCHAR(255) NOT NULL,
+    created_at VARCHAR(255) NOT NULL,
+    payment_id VARCHAR(255),
+    receipt_email VARCHAR(255),
+    PRIMARY KEY (pid),
+    CONSTRAINT fk_payment_registration FOREIGN KEY (rid) REFERENCES event_registration (rid)
+);
+
+CREATE TABLE event_review (
+    id INT NOT NULL AUTO_INCREMENT,
+    event_id INT NOT NULL,
+    student_id INT NOT NULL,
+    rating INT NOT NULL,
+    review_text VARCHAR(1000),
+    created_at VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_review_event FOREIGN KEY (event_id) REFERENCES event (eid),
+    CONSTRAINT fk_review_student FOREIGN KEY (student_id) REFERENCES student (sid)
+);
+
+CREATE TABLE password_reset_token (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    token VARCHAR(255) NOT NULL,
+    user_id INT NOT NULL,
+    expiry_date DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_password_reset_token_token UNIQUE (token),
+    CONSTRAINT uk_password_reset_token_user UNIQUE (user_id),
+    CONSTRAINT fk_password_reset_token_user FOREIGN KEY (user_id) REFERENCES user (uid)
+);
@@ -0,0 +1,27 @@
+-- Indexes for the repository finders and dashboard aggregates. InnoDB appends the primary key to every secondary
+-- index, so (eid, ...) indexes also serve "ORDER BY rid" keyset pages.
+-- The unique indexes fail if duplicates already exist; see "Schema Migrations" in README.md for the check.
+
+-- Duplicate check on registration; also serves every per-event lookup
+CREATE UNIQUE INDEX uk_registration_event_student ON event_registration (eid, sid);
+-- Seats taken (status <> 'expired') and paid counts per event, read from the index alone
+CREATE INDEX idx_registration_event_status ON event_registration (eid, status, payment_status);
+
+-- Earnings per event/college: join on rid, filter and sum without touching the rows
+CREATE INDEX idx_payment_registration_status ON payment (rid, status, amount);
+-- Verification and webhooks look a payment up by its order id, which is also their dedupe key
+CREATE UNIQUE INDEX uk_payment_razorpay_order_id ON payment (razorpay_order_id);
+-- Pending-payment reconciliation pages
+CREATE INDEX idx_payment_status_pid ON payment (status, pid);
+
+-- A college's events by date, and the explore category filter in date order
+CREATE INDEX idx_event_college_date ON event (cid, event_date);
+CREATE INDEX idx_event_category_date ON event (category, event_date, eid);
+-- Explore date and fee sorts (eid breaks ties for keyset pages); the date one also serves the reminder partitions
+CREATE INDEX idx_event_date_eid ON event (event_date, eid);
+CREATE INDEX idx_event_fees_eid ON event (fees, eid);
+
+-- One review per student per event; also the per-event rating and review list lookups
+CREATE UNIQUE INDEX uk_review_event_student ON event_review (event_id, student_id);
+-- Student dashboard: a student's review of each event they registered for
+CREATE INDEX idx_review_student_event ON event_review (student_id, event_id);
@@ -0,0 +1,16 @@
+-- Leases that let one instance at a time run a scheduled job or a partition of it (JobLeaseService).
+-- Rows are created on first use.
+CREATE TABLE job_lease (
+    name VARCHAR(100) NOT NULL,
+    holder VARCHAR(100),
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+-- Instances taking part in scheduled jobs; partitions are spread over those with a recent heartbeat
+CREATE TABLE job_node (
+    node_id VARCHAR(100) NOT NULL,
+    heartbeat_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (node_id)
+);
+CREATE INDEX idx_job_node_heartbeat ON job_node (heartbeat_at);
@@ -0,0 +1,54 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.service.CollegeDashboardService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+// College dashboard aggregates for the college that owns the hottest event
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+    @Param({"20", "200"})
+    public int eventsPerCollege;
+
+    // Students across the 5 colleges, 5 registrations each; Zipf-skewed, so the benchmarked college holds hot events
+    @Param({"2000"})
+    public int students;
+
+    private ConfigurableApplicationContext context;
+    private CollegeDashboardService dashboard;
+    private College college;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = PerfContext.start("dashboard" + eventsPerCollege + "x" + students);
+        DatasetGenerator.Dataset dataset = DatasetGenerator.generate(context.getBean(DataSource.class),
+                new DatasetGenerator.Volumes(5, 2, eventsPerCollege, students, 5, 1.1, 0.7, 0.2, 0, 0, 42));
+        college = context.getBean(CollegeRepository.class).findById(dataset.collegeIdsByHeat().get(0)).orElseThrow();
+        dashboard = context.getBean(CollegeDashboardService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object stats() {
+        return dashboard.getCollegeDashboardStats(college);
+    }
+
+    @Benchmark
+    public Object eventTable() {
+        return dashboard.getAllCollegeEvents(college);
+    }
+}
@@ -0,0 +1,279 @@
+package com.unbound.backend.perf;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+// Fills an empty schema (created by the app's ddl-auto) with colleges, fests, events, students, teams, registrations,
+// payments and reviews. Registrations follow a Zipf distribution over events, so a few events are very hot and most
+// are quiet. Rows are written with JDBC batches and explicit ids, so a million rows take seconds rather than minutes.
+//
+// Standalone: java ... DatasetGenerator url=jdbc:mysql://localhost:3306/unbound_perf user=root password=... students=200000
+public final class DatasetGenerator {
+    public static final String PASSWORD = "password";
+    private static final int BATCH = 1000;
+    private static final String[] CATEGORIES = {"Technical", "Cultural", "Sports", "Workshop", "Gaming"};
+    private static final int TEAM_SIZE = 4;
+
+    public record Volumes(int colleges, int festsPerCollege, int eventsPerCollege, int students, int registrationsPerStudent,
+                          double zipfExponent, double paidShare, double reviewShare, int pendingPayments, int flashSeats, long seed) {
+
+        public static Volumes defaults() {
+            return new Volumes(50, 2, 40, 20_000, 4, 1.1, 0.7, 0.2, 5_000, 500, 42);
+        }
+
+        // key=value overrides on top of the defaults, e.g. students=100000 zipfExponent=1.3
+        public static Volumes parse(Map<String, String> options) {
+            Volumes d = defaults();
+            return new Volumes(
+                    intOption(options, "colleges", d.colleges),
+                    intOption(options, "festsPerCollege", d.festsPerCollege),
+                    intOption(options, "eventsPerCollege", d.eventsPerCollege),
+                    intOption(options, "students", d.students),
+                    intOption(options, "registrationsPerStudent", d.registrationsPerStudent),
+                    Double.parseDouble(options.getOrDefault("zipfExponent", String.valueOf(d.zipfExponent))),
+                    Double.parseDouble(options.getOrDefault("paidShare", String.valueOf(d.paidShare))),
+                    Double.parseDouble(options.getOrDefault("reviewShare", String.valueOf(d.reviewShare))),
+                    intOption(options, "pendingPayments", d.pendingPayments),
+                    intOption(options, "flashSeats", d.flashSeats),
+                    Long.parseLong(options.getOrDefault("seed", String.valueOf(d.seed))));
+        }
+
+        private static int intOption(Map<String, String> options, String key, int fallback) {
+            return Integer.parseInt(options.getOrDefault(key, String.valueOf(fallback)));
+        }
+    }
+
+    // What the load scenarios need to address the generated rows
+    public record Dataset(List<Integer> collegeIds, List<String> collegeEmails, List<Integer> eventIdsByHeat,
+                          List<Integer> collegeIdsByHeat, int flashEventId, List<String> flashStudentEmails,
+                          List<String> pendingOrderIds, List<String> studentEmails, long rows) {
+    }
+
+    private DatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        DataSource dataSource = new DriverManagerDataSource(options.get("url"), options.get("user"), options.getOrDefault("password", ""));
+        long start = System.currentTimeMillis();
+        Dataset dataset = generate(dataSource, Volumes.parse(options));
+        System.out.printf("Generated %,d rows in %,d ms%n", dataset.rows(), System.currentTimeMillis() - start);
+    }
+
+    static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    public static Dataset generate(DataSource dataSource, Volumes v) throws SQLException {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Integer existing = jdbc.queryForObject("SELECT COUNT(*) FROM event", Integer.class);
+        if (existing != null && existing > 0) throw new IllegalStateException("DatasetGenerator needs an empty schema");
+        Random random = new Random(v.seed());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+        LocalDate today = LocalDate.now();
+        long rows = 0;
+
+        // Users: colleges first, then students
+        int users = v.colleges() + v.students();
+        List<Object[]> userRows = new ArrayList<>(users);
+        List<String> collegeEmails = new ArrayList<>();
+        List<String> studentEmails = new ArrayList<>();
+        for (int c = 0; c < v.colleges(); c++) {
+            String email = "college" + c + "@perf.dev";
+            collegeEmails.add(email);
+            userRows.add(new Object[]{c + 1, email, passwordHash, "College", now});
+        }
+        for (int s = 0; s < v.students(); s++) {
+            String email = "student" + s + "@perf.dev";
+            studentEmails.add(email);
+            userRows.add(new Object[]{v.colleges() + s + 1, email, passwordHash, "Student", now});
+        }
+        rows += insert(jdbc, "INSERT INTO user (uid, email, password, role, created_at) VALUES (?, ?, ?, ?, ?)", userRows);
+
+        List<Integer> collegeIds = new ArrayList<>();
+        List<Object[]> collegeRows = new ArrayList<>();
+        for (int c = 0; c < v.colleges(); c++) {
+            collegeIds.add(c + 1);
+            collegeRows.add(new Object[]{c + 1, c + 1, "College " + c});
+        }
+        rows += insert(jdbc, "INSERT INTO college (cid, uid, cname) VALUES (?, ?, ?)", collegeRows);
+
+        List<Object[]> festRows = new ArrayList<>();
+        for (int c = 0; c < v.colleges(); c++) {
+            for (int f = 0; f < v.festsPerCollege(); f++) {
+                LocalDate festStart = today.plusDays(random.nextInt(240) - 120L);
+                festRows.add(new Object[]{festRows.size() + 1, c + 1, "Fest " + c + "-" + f, festStart.toString(), festStart.plusDays(2).toString()});
+            }
+        }
+        rows += insert(jdbc, "INSERT INTO fest (fid, cid, fname, start_date, end_date) VALUES (?, ?, ?, ?, ?)", festRows);
+
+        List<Object[]> studentRows = new ArrayList<>(v.students());
+        for (int s = 0; s < v.students(); s++) {
+            studentRows.add(new Object[]{s + 1, v.colleges() + s + 1, 1 + random.nextInt(v.colleges()), "Student " + s});
+        }
+        rows += insert(jdbc, "INSERT INTO student (sid, uid, cid, sname) VALUES (?, ?, ?, ?)", studentRows);
+
+        // Events: heat rank r has weight 1 / (r + 1)^s, ranks shuffled so hot events are spread over colleges
+        int events = v.colleges() * v.eventsPerCollege();
+        int[] eventByRank = new int[events];
+        for (int e = 0; e < events; e++) eventByRank[e] = e;
+        shuffle(eventByRank, random);
+        double[] cumulative = new double[events];
+        double total = 0;
+        for (int r = 0; r < events; r++) {
+            total += 1.0 / Math.pow(r + 1, v.zipfExponent());
+            cumulative[r] = total;
+        }
+        boolean[] teamEvent = new boolean[events];
+        int[] fees = new int[events];
+        for (int e = 0; e < events; e++) {
+            teamEvent[e] = e % 5 == 0;
+            fees[e] = e % 3 == 0 ? 0 : 50 + random.nextInt(20) * 25;
+        }
+
+        // Each student picks distinct events by heat
+        List<List<Integer>> registrantsByEvent = new ArrayList<>(events);
+        for (int e = 0; e < events; e++) registrantsByEvent.add(new ArrayList<>());
+        int perStudent = Math.min(v.registrationsPerStudent(), events);
+        for (int s = 0; s < v.students(); s++) {
+            Set<Integer> picked = new HashSet<>();
+            while (picked.size() < perStudent) {
+                int rank = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                picked.add(eventByRank[rank < 0 ? Math.min(-rank - 1, events - 1) : rank]);
+            }
+            for (int e : picked) registrantsByEvent.get(e).add(s + 1);
+        }
+
+        // Flash event: the hottest paid solo event, left with flashSeats free seats
+        int flashEvent = -1;
+        for (int r = 0; r < events && flashEvent < 0; r++) {
+            int e = eventByRank[r];
+            if (!teamEvent[e] && fees[e] > 0) flashEvent = e;
+        }
+
+        List<Object[]> eventRows = new ArrayList<>(events);
+        for (int e = 0; e < events; e++) {
+            int college = e / v.eventsPerCollege();
+            int registered = registrantsByEvent.get(e).size();
+            int capacity = e == flashEvent ? registered + v.flashSeats() : Math.max(50, registered + registered / 5);
+            Integer fest = v.festsPerCollege() == 0 || e % 3 == 2 ? null : college * v.festsPerCollege() + e % v.festsPerCollege() + 1;
+            eventRows.add(new Object[]{e + 1, college + 1, fest, "Event " + college + "-" + e % v.eventsPerCollege(),
+                    today.plusDays(random.nextInt(360) - 180L).toString(), fees[e], "Hall " + e % 12, capacity,
+                    teamEvent[e], CATEGORIES[e % CATEGORIES.length], e % 2 == 0 ? "Offline" : "Online", false});
+        }
+        rows += insert(jdbc, "INSERT INTO event (eid, cid, fid, ename, event_date, fees, location, capacity, team_is_allowed, " +
+                "category, mode, poster_approved) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+
+        // Registrations, with teams of up to TEAM_SIZE on team events, a payment for every paid event registration,
+        // and reviews on past events
+        List<Object[]> teamRows = new ArrayList<>();
+        List<Object[]> memberRows = new ArrayList<>();
+        List<Object[]> registrationRows = new ArrayList<>();
+        List<Object[]> paymentRows = new ArrayList<>();
+        List<Object[]> reviewRows = new ArrayList<>();
+        List<String> pendingOrderIds = new ArrayList<>();
+        String registeredAt = LocalDateTime.now().minusDays(30).toString();
+        for (int e = 0; e < events; e++) {
+            List<Integer> registrants = registrantsByEvent.get(e);
+            boolean past = LocalDate.parse((String) eventRows.get(e)[4]).isBefore(today);
+            Integer team = null;
+            for (int i = 0; i < registrants.size(); i++) {
+                int sid = registrants.get(i);
+                if (teamEvent[e] && i % TEAM_SIZE == 0) {
+                    team = teamRows.size() + 1;
+                    teamRows.add(new Object[]{team, e + 1, "Team " + team, sid});
+                }
+                if (teamEvent[e]) memberRows.add(new Object[]{team, sid});
+                int rid = registrationRows.size() + 1;
+                String paymentStatus = "paid";
+                if (fees[e] > 0) {
+                    boolean paid = random.nextDouble() < v.paidShare();
+                    boolean pendingOrder = !paid && pendingOrderIds.size() < v.pendingPayments();
+                    paymentStatus = paid ? "paid" : "pending";
+                    if (paid || pendingOrder) {
+                        String orderId = "order_perf_" + rid;
+                        paymentRows.add(new Object[]{paymentRows.size() + 1, rid, orderId, paymentStatus, fees[e], "INR",
+                                registeredAt, studentEmails.get(sid - 1)});
+                        if (pendingOrder) pendingOrderIds.add(orderId);
+                    }
+                }
+                registrationRows.add(new Object[]{rid, e + 1, sid, teamEvent[e] ? team : null, registeredAt, "registered", paymentStatus, false});
+                if (past && random.nextDouble() < v.reviewShare()) {
+                    reviewRows.add(new Object[]{reviewRows.size() + 1, e + 1, sid, 1 + random.nextInt(5), "Review " + rid, today.toString()});
+                }
+            }
+        }
+        rows += insert(jdbc, "INSERT INTO team (tid, eid, tname, sid) VALUES (?, ?, ?, ?)", teamRows);
+        rows += insert(jdbc, "INSERT INTO team_members (tid, sid) VALUES (?, ?)", memberRows);
+        rows += insert(jdbc, "INSERT INTO event_registration (rid, eid, sid, tid, erdate_time, status, payment_status, " +
+                "certificate_approved) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", registrationRows);
+        rows += insert(jdbc, "INSERT INTO payment (pid, rid, razorpay_order_id, status, amount, currency, created_at, receipt_email) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", paymentRows);
+        rows += insert(jdbc, "INSERT INTO event_review (id, event_id, student_id, rating, review_text, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)", reviewRows);
+
+        restartIdentities(dataSource, jdbc, Map.of(
+                "user", "uid", "college", "cid", "fest", "fid", "student", "sid", "event", "eid",
+                "team", "tid", "event_registration", "rid", "payment", "pid", "event_review", "id"));
+
+        List<Integer> eventIdsByHeat = new ArrayList<>(events);
+        List<Integer> collegeIdsByHeat = new ArrayList<>();
+        for (int r = 0; r < events; r++) {
+            int e = eventByRank[r];
+            eventIdsByHeat.add(e + 1);
+            int college = e / v.eventsPerCollege() + 1;
+            if (!collegeIdsByHeat.contains(college)) collegeIdsByHeat.add(college);
+        }
+        Set<Integer> flashRegistered = new HashSet<>(flashEvent < 0 ? List.of() : registrantsByEvent.get(flashEvent));
+        List<String> flashStudents = new ArrayList<>();
+        for (int s = 0; s < v.students() && flashStudents.size() < 10 * Math.max(1, v.flashSeats()); s++) {
+            if (!flashRegistered.contains(s + 1)) flashStudents.add(studentEmails.get(s));
+        }
+        return new Dataset(collegeIds, collegeEmails, eventIdsByHeat, collegeIdsByHeat, flashEvent + 1, flashStudents,
+                pendingOrderIds, studentEmails, rows);
+    }
+
+    private static int insert(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH, rows.size())));
+        }
+        return rows.size();
+    }
+
+    // Explicit ids do not advance H2's identity columns (MySQL's AUTO_INCREMENT follows them on its own)
+    private static void restartIdentities(DataSource dataSource, JdbcTemplate jdbc, Map<String, String> idColumns) throws SQLException {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        }
+        if (!"H2".equalsIgnoreCase(product)) return;
+        idColumns.forEach((table, column) -> {
+            Integer max = jdbc.queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Integer.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (max + 1));
+        });
+    }
+
+    private static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.unbound.backend.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.unbound.backend.controller.ExploreController;
+import com.unbound.backend.entity.College;
+import com.unbound.backend.repository.CollegeRepository;
+import com.unbound.backend.service.CollegeDashboardService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+// Encode and decode time of the JSON, Smile and CBOR responses for the largest explore page and the college
+// dashboard, using the application's own mappers. Decoding reads into a tree, as a client without generated
+// classes would. Payload sizes (raw and gzipped) are printed once per trial.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+    // explore: 200 event summaries; dashboard: the stats map; eventTable: the dashboard's per-event rows
+    @Param({"explore", "dashboard", "eventTable"})
+    public String payload;
+
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper mapper;
+    private Object body;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = PerfContext.start("encoding" + payload + format);
+        DatasetGenerator.Dataset dataset = DatasetGenerator.generate(context.getBean(DataSource.class),
+                new DatasetGenerator.Volumes(5, 2, 200, 2000, 5, 1.1, 0.7, 0.2, 0, 0, 42));
+        mapper = switch (format) {
+            case "json" -> context.getBean(ObjectMapper.class);
+            case "smile" -> context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+            case "cbor" -> context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+            default -> throw new IllegalArgumentException(format);
+        };
+        College college = context.getBean(CollegeRepository.class).findById(dataset.collegeIdsByHeat().get(0)).orElseThrow();
+        CollegeDashboardService dashboard = context.getBean(CollegeDashboardService.class);
+        body = switch (payload) {
+            case "explore" -> ((ResponseEntity<?>) context.getBean(ExploreController.class)
+                    .exploreEvents(null, null, null, null, null, null, null, null, "date_asc", null, 200)).getBody();
+            case "dashboard" -> dashboard.getCollegeDashboardStats(college);
+            case "eventTable" -> dashboard.getAllCollegeEvents(college);
+            default -> throw new IllegalArgumentException(payload);
+        };
+        encoded = mapper.writeValueAsBytes(body);
+        System.out.printf("%n%s as %s: %d bytes, %d gzipped%n", payload, format, encoded.length, gzipped(encoded));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return mapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws IOException {
+        return mapper.readTree(encoded);
+    }
+
+    private static int gzipped(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,57 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.controller.ExploreController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+// Explore filter/sort pipeline (query build, execution, DTO mapping, cursor) over a synthetic catalog
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExploreBenchmark {
+    // Events per college; 10 colleges, 100 students with 5 registrations each, Zipf-skewed over events
+    @Param({"100", "1000"})
+    public int eventsPerCollege;
+
+    private ConfigurableApplicationContext context;
+    private ExploreController explore;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = PerfContext.start("explore" + eventsPerCollege);
+        DatasetGenerator.generate(context.getBean(DataSource.class),
+                new DatasetGenerator.Volumes(10, 2, eventsPerCollege, 100, 5, 1.1, 0.7, 0.2, 0, 0, 42));
+        explore = context.getBean(ExploreController.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object firstPageByDate() {
+        return explore.exploreEvents(null, null, null, null, null, null, null, null, "date_asc", null, null);
+    }
+
+    @Benchmark
+    public Object mostPopular() {
+        return explore.exploreEvents(null, null, null, null, null, null, null, null, "popularity", null, null);
+    }
+
+    @Benchmark
+    public Object filteredByFee() {
+        return explore.exploreEvents("Technical", null, "paid", null, null, "College 3", null, "Offline", "fee_desc", null, null);
+    }
+
+    @Benchmark
+    public Object festsByCollege() {
+        return explore.exploreFests(null, "College", null, null, null, null);
+    }
+}
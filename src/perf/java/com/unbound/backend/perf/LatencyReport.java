@@ -0,0 +1,61 @@
+package com.unbound.backend.perf;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-endpoint latency histograms (microseconds, 3 significant digits) and outcome counts.
+// Samples that start before the end of the warmup are dropped.
+final class LatencyReport {
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final long recordFromNanos;
+
+    LatencyReport(long recordFromNanos) {
+        this.recordFromNanos = recordFromNanos;
+    }
+
+    private static final class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder shed = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+
+    // status: the HTTP status, or -1 when the request failed before a response arrived
+    void record(String endpoint, long startNanos, int status) {
+        if (startNanos < recordFromNanos) return;
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        Endpoint e = endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+        e.latency.recordValue(Math.min(micros, MAX_MICROS));
+        if (status >= 200 && status < 300) e.ok.increment();
+        else if (status >= 400 && status < 500) e.rejected.increment();
+        else if (status == 503) e.shed.increment(); // admission control
+        else e.errors.increment();
+    }
+
+    void print(PrintStream out, long measuredSeconds) {
+        out.printf("%-48s %9s %8s %9s %8s %8s %8s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "ok", "4xx", "503", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        new TreeMap<>(endpoints).forEach((name, e) -> {
+            Histogram h = e.latency;
+            out.printf("%-48s %9d %8.1f %9d %8d %8d %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    name, h.getTotalCount(), h.getTotalCount() / (double) Math.max(1, measuredSeconds),
+                    e.ok.sum(), e.rejected.sum(), e.shed.sum(), e.errors.sum(),
+                    millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(99)),
+                    millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+        });
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,266 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.entity.User;
+import com.unbound.backend.service.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Closed-loop load suite: boots the app, fills it with DatasetGenerator and runs virtual users against it over HTTP.
+// Each user loops for the whole run, picking a scenario per iteration:
+//   explore   - anonymous browsing: filtered/sorted event pages (following the cursor), fests, stats and rating of
+//               events picked by heat
+//   flash     - students without a seat racing for the flash event's last seats
+//   payment   - verification of pending orders (payment update, registration update, receipt mail)
+//   dashboard - organisers of the busiest colleges refreshing their dashboards
+// Mail goes to an in-process sender that only waits mailLatencyMs, so SMTP speed is part of the run but no mail leaves.
+//
+// Options (key=value): scenario=all|explore|flash|payment|dashboard users=50 duration=60 warmup=10 mailLatencyMs=50,
+// threads=platform|virtual|both (both runs the same load twice, so the reports compare the two request models),
+// url/user/password to run against a scratch MySQL schema instead of embedded H2 (its tables are dropped and
+// recreated), plus any DatasetGenerator.Volumes key.
+public final class LoadTest {
+    private static final String[] CATEGORIES = {"Technical", "Cultural", "Sports", "Workshop", "Gaming", null};
+    private static final String[] SORTS = {"date_asc", "date_desc", "popularity", "fee_asc", "fee_desc"};
+    // Share of iterations per scenario in the "all" mix
+    private static final Map<String, Integer> MIX = new LinkedHashMap<>(Map.of("explore", 60, "flash", 15, "payment", 15, "dashboard", 10));
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private final DatasetGenerator.Dataset dataset;
+    private final LatencyReport report;
+    private final double[] heatCdf;
+    private final Queue<String> flashStudents;
+    private final Queue<String> pendingOrders;
+    private final List<String> collegeTokens = new ArrayList<>();
+    private final Map<String, String> studentTokens = new ConcurrentHashMap<>();
+    private final JwtService jwtService;
+
+    private LoadTest(String baseUrl, DatasetGenerator.Dataset dataset, JwtService jwtService, LatencyReport report) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.jwtService = jwtService;
+        this.report = report;
+        this.flashStudents = new ConcurrentLinkedQueue<>(dataset.flashStudentEmails());
+        List<String> orders = new ArrayList<>(dataset.pendingOrderIds());
+        Collections.shuffle(orders, new Random(1));
+        this.pendingOrders = new ConcurrentLinkedQueue<>(orders);
+        for (int college : dataset.collegeIdsByHeat().subList(0, Math.min(10, dataset.collegeIdsByHeat().size()))) {
+            collegeTokens.add(jwtService.generateToken(dataset.collegeEmails().get(college - 1), User.Role.College.name()));
+        }
+        // Same skew as the generator: most reads land on the hottest events
+        int events = dataset.eventIdsByHeat().size();
+        heatCdf = new double[events];
+        double total = 0;
+        for (int r = 0; r < events; r++) {
+            total += 1.0 / (r + 1);
+            heatCdf[r] = total;
+        }
+        for (int r = 0; r < events; r++) heatCdf[r] /= total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = DatasetGenerator.options(args);
+        String scenario = options.getOrDefault("scenario", "all");
+        String threads = options.getOrDefault("threads", "platform");
+        if (!scenario.equals("all") && !MIX.containsKey(scenario)) throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        if (!List.of("platform", "virtual", "both").contains(threads)) throw new IllegalArgumentException("Unknown threads: " + threads);
+
+        // Same seed, so both runs see the same dataset and the same request sequence per user
+        if (!threads.equals("virtual")) runOnce(options, scenario, false);
+        if (!threads.equals("platform")) runOnce(options, scenario, true);
+    }
+
+    private static void runOnce(Map<String, String> options, String scenario, boolean virtualThreads) throws Exception {
+        int users = Integer.parseInt(options.getOrDefault("users", "50"));
+        int duration = Integer.parseInt(options.getOrDefault("duration", "60"));
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "10"));
+        long mailLatencyMs = Long.parseLong(options.getOrDefault("mailLatencyMs", "50"));
+        String label = virtualThreads ? "virtual" : "platform";
+
+        SpringApplicationBuilder app = PerfContext.builder("loadtest-" + label)
+                .initializers(context -> context.getBeanFactory().registerSingleton("mailSender", new SimulatedMailSender(mailLatencyMs)))
+                .properties("spring.threads.virtual.enabled=" + virtualThreads);
+        if (options.containsKey("url")) {
+            app.properties("spring.datasource.url=" + options.get("url"),
+                    "spring.datasource.username=" + options.getOrDefault("user", "root"),
+                    "spring.datasource.password=" + options.getOrDefault("password", ""),
+                    "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+                    "spring.jpa.hibernate.ddl-auto=create");
+        }
+        try (ConfigurableApplicationContext context = app.run();
+             PinnedThreadMonitor pinned = virtualThreads ? new PinnedThreadMonitor(Duration.ofMillis(20)) : null) {
+            long seedStart = System.currentTimeMillis();
+            DatasetGenerator.Dataset dataset = DatasetGenerator.generate(context.getBean(DataSource.class), DatasetGenerator.Volumes.parse(options));
+            System.out.printf("%n[%s threads] seeded %,d rows in %,d ms; %d users, scenario %s, %ds warmup + %ds%n",
+                    label, dataset.rows(), System.currentTimeMillis() - seedStart, users, scenario, warmup, duration);
+
+            String port = context.getEnvironment().getProperty("local.server.port");
+            long start = System.nanoTime();
+            LatencyReport report = new LatencyReport(start + TimeUnit.SECONDS.toNanos(warmup));
+            new LoadTest("http://localhost:" + port, dataset, context.getBean(JwtService.class), report)
+                    .run(scenario, users, start + TimeUnit.SECONDS.toNanos(warmup + duration));
+            report.print(System.out, duration);
+            if (pinned != null) pinned.print(System.out);
+        }
+    }
+
+    private void run(String scenario, int users, long deadline) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        for (int u = 0; u < users; u++) {
+            long seed = u;
+            pool.submit(() -> {
+                Random random = new Random(seed);
+                while (System.nanoTime() < deadline) {
+                    String next = scenario.equals("all") ? pick(random) : scenario;
+                    try {
+                        if (!step(next, random)) explore(random); // flash seats or pending orders used up
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        if (!pool.awaitTermination(TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime()) + 60, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static String pick(Random random) {
+        int roll = random.nextInt(100);
+        for (Map.Entry<String, Integer> entry : MIX.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) return entry.getKey();
+        }
+        return "explore";
+    }
+
+    private boolean step(String scenario, Random random) throws InterruptedException {
+        return switch (scenario) {
+            case "explore" -> explore(random);
+            case "flash" -> flash();
+            case "payment" -> payment(random);
+            default -> dashboard(random);
+        };
+    }
+
+    private boolean explore(Random random) throws InterruptedException {
+        StringBuilder query = new StringBuilder("/api/explore/events?limit=20&sort=").append(SORTS[random.nextInt(SORTS.length)]);
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        if (category != null) query.append("&category=").append(category);
+        if (random.nextInt(3) == 0) query.append("&entryFee=").append(random.nextBoolean() ? "free" : "paid");
+        if (random.nextInt(4) == 0) query.append("&mode=").append(random.nextBoolean() ? "Online" : "Offline");
+        String cursor = null;
+        for (int page = 0; page < 1 + random.nextInt(3); page++) {
+            String path = cursor == null ? query.toString() : query + "&cursor=" + cursor;
+            HttpResponse<String> response = send("GET /api/explore/events", get(path, null));
+            cursor = response == null ? null : response.headers().firstValue("X-Next-Cursor").orElse(null);
+            if (cursor == null) break;
+        }
+        if (random.nextInt(5) == 0) send("GET /api/explore/fests", get("/api/explore/fests?limit=20", null));
+        int eventId = hotEvent(random);
+        send("GET /api/events/{id}/stats", get("/api/events/" + eventId + "/stats", null));
+        send("GET /api/events/{id}/rating", get("/api/events/" + eventId + "/rating", null));
+        return true;
+    }
+
+    private boolean flash() throws InterruptedException {
+        String email = flashStudents.poll();
+        if (email == null) return false;
+        String body = "{\"eventId\":" + dataset.flashEventId() + ",\"registrationType\":\"solo\"}";
+        send("POST /api/student/events/register", post("/api/student/events/register", studentToken(email), body));
+        return true;
+    }
+
+    private boolean payment(Random random) throws InterruptedException {
+        String orderId = pendingOrders.poll();
+        if (orderId == null) return false;
+        List<String> students = dataset.studentEmails();
+        String body = "{\"razorpayOrderId\":\"" + orderId + "\",\"status\":\"paid\",\"paymentId\":\"pay_" + orderId + "\"}";
+        send("POST /api/payments/verify", post("/api/payments/verify", studentToken(students.get(random.nextInt(students.size()))), body));
+        return true;
+    }
+
+    private boolean dashboard(Random random) throws InterruptedException {
+        String token = collegeTokens.get(random.nextInt(collegeTokens.size()));
+        for (String path : List.of("/api/college/dashboard/stats", "/api/college/dashboard/events",
+                "/api/college/dashboard/analytics/top-events", "/api/college/dashboard/earnings")) {
+            send("GET " + path, get(path, token));
+        }
+        return true;
+    }
+
+    private int hotEvent(Random random) {
+        int rank = Arrays.binarySearch(heatCdf, random.nextDouble());
+        rank = rank < 0 ? Math.min(-rank - 1, heatCdf.length - 1) : rank;
+        return dataset.eventIdsByHeat().get(rank);
+    }
+
+    private String studentToken(String email) {
+        return studentTokens.computeIfAbsent(email, e -> jwtService.generateToken(e, User.Role.Student.name()));
+    }
+
+    private HttpRequest.Builder get(String path, String token) {
+        return request(path, token).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String token, String json) {
+        return request(path, token).header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    // Returns null when the request failed without a response
+    private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            report.record(endpoint, start, response.statusCode());
+            return response;
+        } catch (java.io.IOException e) {
+            report.record(endpoint, start, -1);
+            return null;
+        }
+    }
+
+    // Stands in for SMTP: every send just takes as long as a mail server round trip
+    private static final class SimulatedMailSender extends JavaMailSenderImpl {
+        private final long latencyMs;
+
+        SimulatedMailSender(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) {
+            pause();
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            pause();
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.UnboundPlatformApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Starts the whole application on a random port against a private in-memory H2 database.
+// Runs on the test classpath, so src/test/resources/application.properties (stub gateway, no reconciler) applies.
+final class PerfContext {
+    private PerfContext() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... properties) {
+        return builder(database).properties(properties).run();
+    }
+
+    // For callers that need to add initializers or point the app at another database before it starts
+    static SpringApplicationBuilder builder(String database) {
+        return new SpringApplicationBuilder(UnboundPlatformApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                        "server.port=0",
+                        "management.server.port=0",
+                        "logging.level.root=WARN");
+    }
+}
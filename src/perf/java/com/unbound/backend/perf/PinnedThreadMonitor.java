@@ -0,0 +1,51 @@
+package com.unbound.backend.perf;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts jdk.VirtualThreadPinned JFR events (a virtual thread blocked while holding a monitor, so its carrier thread
+// is blocked too), grouped by the innermost frame outside the JDK: usually a synchronized block in a driver or library.
+final class PinnedThreadMonitor implements AutoCloseable {
+    private final RecordingStream stream = new RecordingStream();
+    private final Map<String, LongAdder> pinnedAt = new ConcurrentHashMap<>();
+
+    PinnedThreadMonitor(Duration threshold) {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", event -> {
+            String site = "unknown";
+            if (event.getStackTrace() != null) {
+                for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                    String type = frame.getMethod().getType().getName();
+                    if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                        site = type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+                        break;
+                    }
+                }
+            }
+            pinnedAt.computeIfAbsent(site, k -> new LongAdder()).increment();
+        });
+        stream.startAsync();
+    }
+
+    void print(PrintStream out) {
+        if (pinnedAt.isEmpty()) {
+            out.println("No pinned virtual threads");
+            return;
+        }
+        out.println("Pinned virtual threads by site:");
+        pinnedAt.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(e -> out.printf("%9d  %s%n", e.getValue().sum(), e.getKey()));
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,56 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.service.CertificateService;
+import com.unbound.backend.service.ThumbnailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+// CPU-bound work done inside request threads: certificate PDFs and poster thumbnails
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderingBenchmark {
+    // Poster upload size (width x height)
+    @Param({"1280x720", "4000x3000"})
+    public String posterSize;
+
+    private final CertificateService certificateService = new CertificateService();
+    private final ThumbnailService thumbnailService = new ThumbnailService();
+    private BufferedImage poster;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(certificateService, "meterRegistry", registry);
+        ReflectionTestUtils.setField(thumbnailService, "meterRegistry", registry);
+        String[] size = posterSize.split("x");
+        poster = new BufferedImage(Integer.parseInt(size[0]), Integer.parseInt(size[1]), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = poster.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, poster.getWidth(), poster.getHeight(), Color.BLUE));
+        g.fillRect(0, 0, poster.getWidth(), poster.getHeight());
+        g.dispose();
+    }
+
+    @Benchmark
+    public byte[] certificate() throws Exception {
+        return certificateService.generateCertificate("Asha Verma", "Hackathon Finals", "TechFest 2025", "2025-03-14");
+    }
+
+    @Benchmark
+    public int thumbnail() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        thumbnailService.writeThumbnail(poster, out);
+        return out.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.unbound.backend.perf;
+
+import com.unbound.backend.service.JwtService;
+import com.unbound.backend.service.PasswordService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-request auth cost: every authenticated call parses the JWT; login and registration pay for BCrypt
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityBenchmark {
+    private static final String EMAIL = "student@perf.dev";
+    private static final String PASSWORD = "correct horse battery staple";
+
+    private final JwtService jwtService = new JwtService();
+    private final PasswordService passwordService = new PasswordService();
+    private String token;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        token = jwtService.generateToken(EMAIL, "Student");
+        hash = passwordService.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtService.generateToken(EMAIL, "Student");
+    }
+
+    // What JwtAuthenticationFilter does per request
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.isTokenValid(token, jwtService.extractUsername(token));
+    }
+
+    @Benchmark
+    public String hashPassword() {
+        return passwordService.hashPassword(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean verifyPassword() {
+        return passwordService.matches(PASSWORD, hash);
+    }
+}
@@ -0,0 +1,81 @@
+package com.unbound.backend;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+// Wraps the application DataSource so a test can count the statements run and rows read by code on its own thread.
+// MockMvc runs the whole request on the test thread; scheduled jobs on other threads are not counted.
+// Stacks with the SQL profiler's proxy when both wrap the same bean; each counts every statement once.
+@TestConfiguration(proxyBeanMethods = false)
+public class QueryCounter {
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    public static final class Counts {
+        private int statements;
+        private int rows;
+        private final List<String> queries = new ArrayList<>();
+
+        public int statements() {
+            return statements;
+        }
+
+        public int rows() {
+            return rows;
+        }
+
+        @Override
+        public String toString() {
+            return statements + " statements, " + rows + " rows:\n" + String.join("\n", queries);
+        }
+    }
+
+    public static Counts count(Action action) throws Exception {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return counts;
+    }
+
+    @Bean
+    static BeanPostProcessor queryCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) return bean;
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .afterQuery((execInfo, queryInfoList) -> {
+                            Counts counts = CURRENT.get();
+                            if (counts == null) return;
+                            counts.statements++;
+                            queryInfoList.forEach(query -> counts.queries.add(query.getQuery()));
+                        })
+                        .proxyResultSet()
+                        .afterMethod(context -> {
+                            Counts counts = CURRENT.get();
+                            if (counts != null && context.getTarget() instanceof ResultSet
+                                    && "next".equals(context.getMethod().getName())
+                                    && Boolean.TRUE.equals(context.getResult())) {
+                                counts.rows++;
+                            }
+                        })
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.unbound.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Without a separate management port the actuator shares the public port, where only health may be open
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:actuatorsecurity;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "management.endpoints.web.exposure.include=health,prometheus"
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusIsNotOpenOnThePublicPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    void healthIsOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,90 @@
+package com.unbound.backend.config;
+
+import com.unbound.backend.config.AdmissionControlFilter.Priority;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionControlFilterTest {
+    private final Map<Priority, AimdLimit> limits = new EnumMap<>(Map.of(
+            Priority.CRITICAL, new AimdLimit(1, 10, 50),
+            Priority.STANDARD, new AimdLimit(1, 10, 50),
+            Priority.SHEDDABLE, new AimdLimit(1, 10, 50)));
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(limits,
+            Map.of(Priority.CRITICAL, List.of("/api/payments/**"), Priority.SHEDDABLE, List.of("/api/explore/**")),
+            List.of("/actuator/**"), 2, new SimpleMeterRegistry());
+
+    @Test
+    void routesAreClassifiedByPattern() {
+        assertThat(filter.classify("/api/payments/verify")).isEqualTo(Priority.CRITICAL);
+        assertThat(filter.classify("/api/explore/events")).isEqualTo(Priority.SHEDDABLE);
+        assertThat(filter.classify("/api/college/dashboard/stats")).isEqualTo(Priority.STANDARD);
+    }
+
+    @Test
+    void requestOverItsClassLimitIsRejectedWithRetryAfter() throws Exception {
+        AimdLimit explore = limits.get(Priority.SHEDDABLE);
+        while (explore.tryAcquire()) {
+            // fill the class up
+        }
+
+        MockHttpServletResponse shed = perform("/api/explore/events", 0);
+        MockHttpServletResponse critical = perform("/api/payments/verify", 0);
+
+        assertThat(shed.getStatus()).isEqualTo(503);
+        assertThat(shed.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(critical.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void slowHigherClassMakesLowerClassesBackOff() throws Exception {
+        perform("/api/payments/verify", 80);
+
+        assertThat(limits.get(Priority.CRITICAL).getLimit()).isEqualTo(9);
+        assertThat(limits.get(Priority.STANDARD).getLimit()).isEqualTo(9);
+        assertThat(limits.get(Priority.SHEDDABLE).getLimit()).isEqualTo(9);
+
+        perform("/api/explore/events", 80);
+
+        assertThat(limits.get(Priority.CRITICAL).getLimit()).isEqualTo(9);
+        assertThat(limits.get(Priority.STANDARD).getLimit()).isEqualTo(9);
+    }
+
+    @Test
+    void exemptRoutesAreNotCounted() throws Exception {
+        for (Priority priority : Priority.values()) {
+            while (limits.get(priority).tryAcquire()) {
+                // fill every class up
+            }
+        }
+
+        assertThat(perform("/actuator/health", 0).getStatus()).isEqualTo(200);
+    }
+
+    private MockHttpServletResponse perform(String path, long handlerMillis) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", path), response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                if (handlerMillis > 0) {
+                    try {
+                        Thread.sleep(handlerMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        return response;
+    }
+}
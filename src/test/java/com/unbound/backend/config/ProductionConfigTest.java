@@ -0,0 +1,31 @@
+package com.unbound.backend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The test application.properties shadows the main one, so no other test boots with the production settings (second-level
+// cache, Flyway with validate, ...). This one loads the main file and only points the datasource at H2.
+@SpringBootTest
+@TestPropertySource(locations = "file:src/main/resources/application.properties", properties = {
+        "spring.datasource.url=jdbc:h2:mem:productionconfig;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        // The test application.properties turns Flyway off; the main file leaves it on
+        "spring.flyway.enabled=true"
+})
+class ProductionConfigTest {
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void contextStartsWithTheSecondLevelCache() {
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions().isSecondLevelCacheEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,112 @@
+package com.unbound.backend.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two embedded databases stand in for the primary and a replica; each knows its own name
+class ReplicaRoutingDataSourceTest {
+    private final AtomicReference<String> caller = new AtomicReference<>();
+    private DataSource replica;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        replica = database("replica");
+        routing = new ReplicaRoutingDataSource(primary, List.of(replica), caller::get, 5, 60_000,
+                "SELECT seconds_behind FROM replica_status");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager txManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(txManager);
+        readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransactionsUseAHealthyReplica() {
+        routing.checkReplicas();
+
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("replica");
+        assertThat(readWrite.<String>execute(tx -> whoAmI())).isEqualTo("primary");
+        assertThat(whoAmI()).isEqualTo("primary");
+    }
+
+    @Test
+    void readsStayOnPrimaryUntilTheFirstHealthCheck() {
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind = 30");
+        routing.checkReplicas();
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("primary");
+
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind = 1");
+        routing.checkReplicas();
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void stoppedReplicationMarksReplicaUnavailable() {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET seconds_behind = NULL");
+        routing.checkReplicas();
+
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("primary");
+    }
+
+    @Test
+    void callerReadsTheirOwnWritesFromPrimary() {
+        routing.checkReplicas();
+
+        caller.set("alice@test.dev");
+        readWrite.executeWithoutResult(tx -> jdbc.update("UPDATE whoami SET name = name"));
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("primary");
+
+        caller.set("bob@test.dev");
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteDoesNotMakeCallerSticky() {
+        routing.checkReplicas();
+
+        caller.set("alice@test.dev");
+        readWrite.executeWithoutResult(tx -> {
+            jdbc.update("UPDATE whoami SET name = name");
+            tx.setRollbackOnly();
+        });
+        assertThat(readOnly.<String>execute(tx -> whoAmI())).isEqualTo("replica");
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        ds.setUser("sa");
+        JdbcTemplate jdbc = new JdbcTemplate(ds);
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_status (seconds_behind INT)");
+        jdbc.update("INSERT INTO replica_status VALUES (0)");
+        return ds;
+    }
+}
@@ -0,0 +1,51 @@
+package com.unbound.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The header reports whatever the request ran; entity loads and the statements themselves may be served by the
+// second-level cache, so only the shape is checked
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sqlprofiling;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class SqlProfilingTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void responseCarriesTheRequestsDatabaseCost() throws Exception {
+        mockMvc.perform(get("/api/explore/fests"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "db;dur=\\d+\\.\\d;desc=\"\\d+ statements\", db-slowest;dur=\\d+\\.\\d, entities;desc=\"\\d+ loaded\"")));
+    }
+
+    @Test
+    void fingerprintDropsLiteralsAndInListLengths() {
+        String a = SqlProfile.fingerprint("select e1_0.eid from event e1_0\n  where e1_0.cid = 42 and e1_0.name = 'It''s' and e1_0.eid in (?, ?, ?)");
+        String b = SqlProfile.fingerprint("SELECT e1_0.eid FROM event e1_0 WHERE e1_0.cid = 7 AND e1_0.name = 'x' AND e1_0.eid IN (?,?)");
+
+        assertThat(a).isEqualTo("select e1_0.eid from event e1_0 where e1_0.cid = ? and e1_0.name = ? and e1_0.eid in (?+)");
+        assertThat(b).isEqualTo(a);
+    }
+
+    @Test
+    void mostRepeatedGroupsStatementsByFingerprint() {
+        SqlProfile profile = new SqlProfile();
+        profile.recordStatement("select s1_0.sid from student s1_0 where s1_0.sid in (?,?)", 1000);
+        profile.recordStatement("select s1_0.sid from student s1_0 where s1_0.sid in (?,?,?)", 1000);
+        profile.recordStatement("select e1_0.eid from event e1_0 where e1_0.eid=?", 1000);
+
+        assertThat(profile.mostRepeated()).isEqualTo(Map.entry("select s1_0.sid from student s1_0 where s1_0.sid in (?+)", 2));
+    }
+}
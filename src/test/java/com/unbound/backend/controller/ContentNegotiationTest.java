@@ -0,0 +1,104 @@
+package com.unbound.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.unbound.backend.entity.*;
+import com.unbound.backend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The same response in each encoding a client can ask for; no Accept header (or */*) gets JSON. The seeded fest and
+// event leave optional fields null, so nulls have to survive every encoding too.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:negotiation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class ContentNegotiationTest {
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void seed() {
+        if (eventRepository.count() > 0) return;
+        College college = collegeRepository.save(College.builder()
+                .user(userRepository.save(User.builder()
+                        .email("college@test.dev")
+                        .password("x")
+                        .role(User.Role.College)
+                        .createdAt(new Timestamp(System.currentTimeMillis()))
+                        .build()))
+                .cname("Test College")
+                .build());
+        festRepository.save(Fest.builder()
+                .college(college)
+                .fname("Spring Fest")
+                .startDate("2025-03-01")
+                .endDate("2025-03-03")
+                .build());
+        eventRepository.save(Event.builder()
+                .college(college)
+                .ename("Quiz")
+                .eventDate("2025-03-02")
+                .fees(150)
+                .capacity(40)
+                .teamIsAllowed(false)
+                .build());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "*/*,                       application/json",
+        "application/json,          application/json",
+        "application/x-jackson-smile, application/x-jackson-smile",
+        "application/cbor,          application/cbor"
+    })
+    void responseIsEncodedAsAccepted(String accept, String expected) throws Exception {
+        // Each list with a field the seed left null
+        Map<String, String> nullFields = Map.of("/api/explore/fests", "fdescription", "/api/explore/events", "festName");
+        for (Map.Entry<String, String> list : nullFields.entrySet()) {
+            String path = list.getKey();
+            JsonNode json = new ObjectMapper().readTree(mockMvc.perform(get(path))
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andReturn().getResponse().getContentAsByteArray());
+
+            byte[] negotiated = mockMvc.perform(get(path).accept(accept))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(expected))
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            assertThat(json).hasSize(1);
+            assertThat(json.get(0).get(list.getValue()).isNull()).isTrue();
+            assertThat(mapperFor(expected).readTree(negotiated)).isEqualTo(json);
+        }
+    }
+
+    private static ObjectMapper mapperFor(String mediaType) {
+        return switch (mediaType) {
+            case "application/x-jackson-smile" -> new ObjectMapper(new SmileFactory());
+            case "application/cbor" -> new ObjectMapper(new CBORFactory());
+            default -> new ObjectMapper();
+        };
+    }
+}
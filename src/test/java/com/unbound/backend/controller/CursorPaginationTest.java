@@ -0,0 +1,28 @@
+package com.unbound.backend.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPaginationTest {
+    @Test
+    void requestWithoutLimitOrCursorIsNotTruncated() {
+        int limit = CursorPagination.limit(null, null);
+        List<Integer> rows = List.of(1, 2, 3);
+
+        assertThat(CursorPagination.rows(limit).isPaged()).isFalse();
+        assertThat(CursorPagination.page(rows, limit, id -> id).getBody()).containsExactly(1, 2, 3);
+        assertThat(CursorPagination.page(rows, limit, id -> id).getHeaders().containsKey(CursorPagination.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    void cursorWithoutLimitUsesTheDefaultPageSize() {
+        String cursor = CursorPagination.encode(null, 10);
+
+        assertThat(CursorPagination.limit(null, cursor)).isEqualTo(CursorPagination.DEFAULT_LIMIT);
+        assertThat(CursorPagination.limit(1000, null)).isEqualTo(CursorPagination.MAX_LIMIT);
+        assertThat(CursorPagination.rows(2).getPageSize()).isEqualTo(3);
+    }
+}
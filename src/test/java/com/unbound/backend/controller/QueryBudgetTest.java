@@ -0,0 +1,225 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.QueryCounter;
+import com.unbound.backend.entity.*;
+import com.unbound.backend.repository.*;
+import com.unbound.backend.service.JwtService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Statement and row budgets for the main read endpoints over a seeded catalog. A budget that has to grow with the
+// data (a query per event, findAll() in a loop) is an N+1 and should be fixed, not raised.
+// Dashboard aggregates run on the request thread here: QueryCounter only sees statements from the test thread
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "dashboard.fanout.threads=0"
+})
+@AutoConfigureMockMvc
+@Import(QueryCounter.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+    private static final int COLLEGE_EVENTS = 30;
+    private static final int COLLEGE_FESTS = 3;
+    private static final int OTHER_EVENTS = 10;
+    private static final int STUDENTS = 300;
+    private static final int REGISTRATIONS_PER_STUDENT = 5;
+    private static final int TEAMS = 20;
+    private static final int LIMIT = 20;
+    // The JWT filter loads the user; every role-checked endpoint then loads the caller's college or student
+    private static final int AUTH = 1;
+    private static final int OWNER = 1;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private FestRepository festRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private EventReviewRepository eventReviewRepository;
+
+    private Event teamEvent;
+    private String collegeToken;
+    private String studentToken;
+
+    @BeforeAll
+    void seed() {
+        College college = college("college@test.dev");
+        College other = college("other@test.dev");
+        List<Fest> fests = new ArrayList<>();
+        for (int i = 0; i < COLLEGE_FESTS; i++) {
+            fests.add(Fest.builder()
+                    .college(college)
+                    .fname("Fest " + i)
+                    .startDate("2025-0" + (i + 1) + "-01")
+                    .endDate("2025-0" + (i + 1) + "-03")
+                    .build());
+        }
+        festRepository.saveAll(fests);
+
+        // 8 events in each fest, the rest standalone, plus another college's events that must never be counted
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < COLLEGE_EVENTS + OTHER_EVENTS; i++) {
+            boolean own = i < COLLEGE_EVENTS;
+            events.add(Event.builder()
+                    .college(own ? college : other)
+                    .fest(own && i < 8 * COLLEGE_FESTS ? fests.get(i % COLLEGE_FESTS) : null)
+                    .ename("Event " + i)
+                    .eventDate(LocalDate.of(2025, 1, 1).plusDays(i).toString())
+                    .fees(i % 4 == 0 ? 0 : 100 + 10 * i)
+                    .capacity(500)
+                    .teamIsAllowed(i == 0)
+                    .category(i % 2 == 0 ? "Technical" : "Cultural")
+                    .mode("Offline")
+                    .build());
+        }
+        eventRepository.saveAll(events);
+        teamEvent = events.get(0);
+
+        List<User> users = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) users.add(user("student" + s + "@test.dev", User.Role.Student));
+        userRepository.saveAll(users);
+        List<Student> students = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) {
+            students.add(Student.builder().user(users.get(s)).college(college).sname("Student " + s).build());
+        }
+        studentRepository.saveAll(students);
+
+        List<Team> teams = new ArrayList<>();
+        for (int t = 0; t < TEAMS; t++) {
+            teams.add(Team.builder().event(teamEvent).tname("Team " + t).creator(students.get(t)).build());
+        }
+        teamRepository.saveAll(teams);
+
+        // Each student registers for 5 distinct events (7 is coprime with the event count); two in three pay, one in three reviews
+        List<EventRegistration> registrations = new ArrayList<>();
+        for (int s = 0; s < STUDENTS; s++) {
+            for (int k = 0; k < REGISTRATIONS_PER_STUDENT; k++) {
+                registrations.add(EventRegistration.builder()
+                        .event(events.get((s + 7 * k) % events.size()))
+                        .student(students.get(s))
+                        .erdateTime("2024-12-01T10:00")
+                        .status("registered")
+                        .paymentStatus((s + k) % 3 == 0 ? "pending" : "paid")
+                        .build());
+            }
+        }
+        eventRegistrationRepository.saveAll(registrations);
+
+        List<Payment> payments = new ArrayList<>();
+        List<EventReview> reviews = new ArrayList<>();
+        for (int i = 0; i < registrations.size(); i++) {
+            EventRegistration reg = registrations.get(i);
+            if ("paid".equals(reg.getPaymentStatus())) {
+                payments.add(Payment.builder()
+                        .eventRegistration(reg)
+                        .razorpayOrderId("order_" + i)
+                        .status("paid")
+                        .amount(reg.getEvent().getFees())
+                        .currency("INR")
+                        .createdAt("2024-12-01T10:00")
+                        .build());
+            }
+            if (i % 3 == 1) {
+                reviews.add(EventReview.builder()
+                        .event(reg.getEvent())
+                        .student(reg.getStudent())
+                        .rating(1 + i % 5)
+                        .reviewText("Review " + i)
+                        .createdAt("2025-03-01T09:00")
+                        .build());
+            }
+        }
+        paymentRepository.saveAll(payments);
+        eventReviewRepository.saveAll(reviews);
+
+        collegeToken = jwtService.generateToken("college@test.dev", User.Role.College.name());
+        studentToken = jwtService.generateToken("student0@test.dev", User.Role.Student.name());
+    }
+
+    Stream<Arguments> budgets() {
+        int eid = teamEvent.getEid();
+        int page = LIMIT + 1;
+        int perEvent = AUTH + OWNER + COLLEGE_EVENTS;
+        return Stream.of(
+            // path, token, max statements, max rows
+            Arguments.of("/api/explore/events?limit=" + LIMIT, null, 1, page),
+            Arguments.of("/api/explore/events?sort=popularity&category=Technical&limit=" + LIMIT, null, 1, page),
+            Arguments.of("/api/explore/fests?limit=" + LIMIT, null, 1, page),
+            Arguments.of("/api/events/" + eid + "/stats", null, 3, 3),
+            Arguments.of("/api/events/" + eid + "/rating", null, 2, 2),
+            Arguments.of("/api/events?limit=" + LIMIT, collegeToken, AUTH + OWNER + 1, AUTH + OWNER + page),
+            Arguments.of("/api/fests?limit=" + LIMIT, collegeToken, AUTH + OWNER + 1, AUTH + OWNER + page),
+            Arguments.of("/api/events/" + eid + "/reviews?limit=" + LIMIT, collegeToken, AUTH + OWNER + 2, AUTH + OWNER + 1 + page),
+            Arguments.of("/api/college/dashboard/events/" + eid + "/registrations?limit=" + LIMIT, collegeToken, AUTH + OWNER + 2, AUTH + OWNER + 1 + page),
+            Arguments.of("/api/college/dashboard/stats", collegeToken, AUTH + OWNER + 5, AUTH + OWNER + 5),
+            Arguments.of("/api/college/dashboard/events", collegeToken, AUTH + OWNER + 1, perEvent),
+            Arguments.of("/api/college/dashboard/earnings", collegeToken, AUTH + OWNER + 1, perEvent),
+            Arguments.of("/api/college/dashboard/registrations", collegeToken, AUTH + OWNER + 1, perEvent),
+            Arguments.of("/api/college/dashboard/analytics/by-fest", collegeToken, AUTH + OWNER + 2, perEvent + COLLEGE_FESTS),
+            Arguments.of("/api/college/dashboard/analytics/by-date", collegeToken, AUTH + OWNER + 1, perEvent),
+            Arguments.of("/api/college/dashboard/analytics/top-events", collegeToken, AUTH + OWNER + 1, perEvent),
+            Arguments.of("/api/student/events/my?limit=" + LIMIT, studentToken, AUTH + OWNER + 1, AUTH + OWNER + page),
+            Arguments.of("/api/student/events/dashboard/stats", studentToken, AUTH + OWNER + 1, AUTH + OWNER + 1),
+            Arguments.of("/api/student/teams/event/" + eid + "?limit=" + LIMIT, studentToken, AUTH + 2, AUTH + 1 + page),
+            Arguments.of("/api/student/teams/my", studentToken, AUTH + OWNER + 1, AUTH + OWNER + TEAMS)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("budgets")
+    void endpointStaysWithinQueryBudget(String path, String token, int maxStatements, int maxRows) throws Exception {
+        QueryCounter.Counts counts = QueryCounter.count(() -> mockMvc.perform(token == null
+                        ? get(path)
+                        : get(path).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        assertThat(counts.statements()).as("statements for %s, %s", path, counts).isLessThanOrEqualTo(maxStatements);
+        assertThat(counts.rows()).as("rows read for %s, %s", path, counts).isLessThanOrEqualTo(maxRows);
+    }
+
+    private College college(String email) {
+        return collegeRepository.save(College.builder().user(userRepository.save(user(email, User.Role.College))).cname(email).build());
+    }
+
+    private static User user(String email, User.Role role) {
+        return User.builder()
+                .email(email)
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.unbound.backend.controller;
+
+import com.unbound.backend.config.ReplicaRoutingDataSource;
+import com.unbound.backend.entity.*;
+import com.unbound.backend.repository.*;
+import com.unbound.backend.service.EmailService;
+import com.unbound.backend.service.JwtService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A request that reads (read-only repository calls, routed to the replica) and then writes must send the write to the
+// primary. The replica is a second in-memory database holding a copy of the primary, so each side can be inspected.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "datasource.replica.urls=" + ReplicaRoutingRequestTest.REPLICA_URL,
+        "datasource.replica.lagQuery=SELECT 0",
+        "datasource.replica.stickyMs=60000"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingRequestTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:routingreplica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1";
+    private static final String STUDENT_EMAIL = "student@test.dev";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    void readThenWriteInOneRequestWritesToThePrimaryAndKeepsTheCallerThere() throws Exception {
+        College college = collegeRepository.save(College.builder().user(user("college@test.dev", User.Role.College)).cname("College").build());
+        studentRepository.save(Student.builder().user(user(STUDENT_EMAIL, User.Role.Student)).college(college).sname("Asha").build());
+        Event event = eventRepository.save(Event.builder()
+                .college(college)
+                .ename("Quiz")
+                .eventDate("2025-01-02")
+                .fees(0)
+                .capacity(10)
+                .teamIsAllowed(false)
+                .build());
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        for (String statement : primary.queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class)) {
+            replica.execute(statement);
+        }
+        replicaRoutingDataSource.checkReplicas();
+
+        mockMvc.perform(post("/api/student/events/register")
+                        .header("Authorization", "Bearer " + jwtService.generateToken(STUDENT_EMAIL, User.Role.Student.name()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"eventId\":" + event.getEid() + ",\"registrationType\":\"solo\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(registrations(primary)).isEqualTo(1);
+        assertThat(registrations(replica)).isZero();
+
+        // The write was tracked, so the same caller's next read-only transaction goes to the primary and sees it
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(STUDENT_EMAIL, null, List.of()));
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            assertThat(readOnly.<Long>execute(status -> eventRegistrationRepository.count())).isEqualTo(1);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static Integer registrations(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM event_registration", Integer.class);
+    }
+
+    private User user(String email, User.Role role) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+    }
+}
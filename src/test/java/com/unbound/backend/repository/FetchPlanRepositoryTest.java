@@ -0,0 +1,211 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.dto.EventSummary;
+import com.unbound.backend.dto.StudentSummary;
+import com.unbound.backend.dto.TeamSummary;
+import com.unbound.backend.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Each listing query must load everything its endpoint returns in a single statement
+@DataJpaTest
+class FetchPlanRepositoryTest {
+    private static final int MEMBERS = 5;
+
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private FestRepository festRepository;
+
+    private Statistics statistics;
+    private Event event;
+    private Team team;
+    private Student creator;
+
+    @BeforeEach
+    void seed() {
+        College college = em.persist(College.builder()
+                .user(user("college@test.dev", User.Role.College))
+                .cname("Test College")
+                .build());
+        Fest fest = em.persist(Fest.builder()
+                .college(college)
+                .fname("Fest")
+                .startDate("2025-01-01")
+                .endDate("2025-01-03")
+                .build());
+        event = em.persist(Event.builder()
+                .college(college)
+                .fest(fest)
+                .ename("Hackathon")
+                .eventDate("2025-01-02")
+                .fees(0)
+                .capacity(100)
+                .teamIsAllowed(true)
+                .build());
+
+        for (int i = 0; i < MEMBERS; i++) {
+            Student student = em.persist(Student.builder()
+                    .user(user("student" + i + "@test.dev", User.Role.Student))
+                    .college(college)
+                    .sname("Student " + i)
+                    .build());
+            if (i == 0) {
+                creator = student;
+                team = em.persist(Team.builder().event(event).tname("Team").creator(student).build());
+            }
+            em.persist(TeamMembers.builder().team(team).student(student).build());
+            em.persist(EventRegistration.builder()
+                    .event(event)
+                    .student(student)
+                    .team(team)
+                    .erdateTime("2025-01-01T10:00")
+                    .status("registered")
+                    .paymentStatus("paid")
+                    .build());
+        }
+        em.persist(EventReview.builder()
+                .event(event)
+                .student(creator)
+                .rating(5)
+                .createdAt("2025-01-03T09:00")
+                .build());
+        em.flush();
+        em.clear();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void registrationsForEventLoadStudentsAndTeamsInOneQuery() {
+        List<EventRegistration> regs = eventRegistrationRepository.findByEventWithStudentAndTeam(event, 0, PageRequest.of(0, 50));
+
+        assertThat(regs).hasSize(MEMBERS);
+        regs.forEach(r -> {
+            r.getStudent().getSname();
+            r.getTeam().getTname();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void registrationsPageByKeysetWithoutGapsOrOverlap() {
+        List<Integer> seen = new ArrayList<>();
+        int afterRid = 0;
+        List<EventRegistration> page;
+        do {
+            page = eventRegistrationRepository.findByEventWithStudentAndTeam(event, afterRid, PageRequest.of(0, 2));
+            page.forEach(r -> seen.add(r.getRid()));
+            if (!page.isEmpty()) afterRid = page.get(page.size() - 1).getRid();
+        } while (page.size() == 2);
+
+        assertThat(seen).hasSize(MEMBERS).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void exploreEventsSeekPastTheCursorRow() {
+        EventRepositoryCustom.EventSearch byDate = new EventRepositoryCustom.EventSearch(
+                null, null, null, null, null, null, null, null, "date_asc");
+
+        assertThat(eventRepository.searchSummaries(byDate, "2025-01-01", 0, 50)).hasSize(1);
+        assertThat(eventRepository.searchSummaries(byDate, "2025-01-02", event.getEid(), 50)).isEmpty();
+    }
+
+    @Test
+    void teamsForMemberAreOneProjectionQuery() {
+        List<TeamSummary> teams = teamRepository.findSummariesByMember(creator);
+
+        assertThat(teams).extracting(TeamSummary::getTname, TeamSummary::getEventName, TeamSummary::getCreatorName)
+                .containsExactly(tuple("Team", "Hackathon", "Student 0"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void membersOfTeamAreOneProjectionQuery() {
+        List<StudentSummary> students = studentRepository.findSummariesByTeam(team);
+
+        assertThat(students).hasSize(MEMBERS).allMatch(s -> "Test College".equals(s.getCollegeName()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void exploreSearchFiltersAndSortsInTheDatabase() {
+        List<EventSummary> events = eventRepository.searchSummaries(new EventRepositoryCustom.EventSearch(
+                null, null, "free", true, "fes", "test", null, null, "popularity"), null, 0, 50);
+
+        assertThat(events).extracting(EventSummary::getEname, EventSummary::getFestName)
+                .containsExactly(tuple("Hackathon", "Fest"));
+        assertThat(eventRepository.searchSummaries(new EventRepositoryCustom.EventSearch(
+                null, null, "paid", null, null, null, null, null, null), null, 0, 50)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void exploreSearchMatchesWildcardsLiterally() {
+        assertThat(eventRepository.searchSummaries(new EventRepositoryCustom.EventSearch(
+                null, null, null, null, "_est", null, null, null, null), null, 0, 50)).isEmpty();
+        assertThat(eventRepository.searchSummaries(new EventRepositoryCustom.EventSearch(
+                null, null, null, null, null, "%", null, null, null), null, 0, 50)).isEmpty();
+        assertThat(festRepository.searchSummaries("%", null, null, null, 0, PageRequest.of(0, 50))).isEmpty();
+        assertThat(festRepository.searchSummaries(null, "test_college", null, null, 0, PageRequest.of(0, 50))).isEmpty();
+        assertThat(festRepository.searchSummaries("fes", "test college", null, null, 0, PageRequest.of(0, 50))).hasSize(1);
+    }
+
+    @Test
+    void studentDashboardLoadsRegistrationsWithReviewsInOneQuery() {
+        List<Object[]> rows = eventRegistrationRepository.findByStudentWithReview(creator, 0, PageRequest.of(0, 50));
+
+        assertThat(rows).hasSize(1);
+        EventRegistration reg = (EventRegistration) rows.get(0)[0];
+        reg.getEvent().getFest().getFname();
+        reg.getTeam().getTname();
+        assertThat(((EventReview) rows.get(0)[1]).getRating()).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void studentDashboardStatsAreOneAggregateQuery() {
+        var stats = eventRegistrationRepository.getStudentDashboardStats(creator, "2025-06-01");
+
+        assertThat(stats.getTotalEvents()).isEqualTo(1);
+        assertThat(stats.getTotalPaid()).isEqualTo(1);
+        assertThat(stats.getReviewsGiven()).isEqualTo(1);
+        assertThat(stats.getUpcomingEvents()).isZero();
+        assertThat(stats.getPastEvents()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private User user(String email, User.Role role) {
+        return em.persist(User.builder()
+                .email(email)
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+    }
+}
@@ -0,0 +1,80 @@
+package com.unbound.backend.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs the Flyway scripts on an empty database, checks they produce the tables and columns the entities map (the
+// context's own schema comes from the entities), and that the finders' lookups are served by an index.
+// H2's planner is not MySQL's: a pass shows a usable index exists, not which one MySQL will pick.
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:entities;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MigrationTest {
+    private static final String COLUMNS = "SELECT CONCAT(LOWER(table_name), '.', LOWER(column_name), ' ', is_nullable) " +
+            "FROM information_schema.columns WHERE LOWER(table_schema) = 'public' " +
+            "AND LOWER(table_name) <> 'flyway_schema_history' ORDER BY 1";
+
+    @Autowired
+    private DataSource entitySchema;
+
+    private JdbcTemplate migrated;
+
+    @BeforeAll
+    void migrate() {
+        JdbcDataSource ds = new JdbcDataSource();
+        ds.setURL("jdbc:h2:mem:migrated;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1");
+        ds.setUser("sa");
+        Flyway.configure().dataSource(ds).locations("classpath:db/migration").load().migrate();
+        migrated = new JdbcTemplate(ds);
+    }
+
+    @Test
+    void migrationsMatchTheEntityMappings() {
+        List<String> expected = new JdbcTemplate(entitySchema).queryForList(COLUMNS, String.class);
+
+        assertThat(migrated.queryForList(COLUMNS, String.class)).containsExactlyElementsOf(expected);
+    }
+
+    // Second column: the index expected, named only where no other index could serve the lookup
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "SELECT uid FROM user WHERE email = 'a@test.dev'                                   | uk_user_email",
+        "SELECT cid FROM college WHERE uid = 1                                              | uk_college_user",
+        "SELECT sid FROM student WHERE uid = 1                                              | uk_student_user",
+        "SELECT id FROM password_reset_token WHERE token = 't'                              | uk_password_reset_token_token",
+        "SELECT pid FROM payment WHERE razorpay_order_id = 'order_1'                        | uk_payment_razorpay_order_id",
+        "SELECT pid FROM payment WHERE status = 'pending' AND pid > 0 ORDER BY pid          | idx_payment_status_pid",
+        "SELECT SUM(amount) FROM payment WHERE rid = 1 AND status = 'paid'                  | ",
+        "SELECT rid FROM event_registration WHERE eid = 1 AND sid = 1                       | uk_registration_event_student",
+        "SELECT COUNT(*) FROM event_registration WHERE eid = 1 AND status <> 'expired'      | ",
+        "SELECT rid FROM event_registration WHERE sid = 1 AND rid > 0 ORDER BY rid          | ",
+        "SELECT rid FROM event_registration WHERE tid = 1                                   | ",
+        "SELECT eid FROM event WHERE cid = 1 ORDER BY event_date                            | ",
+        "SELECT eid FROM event WHERE fid = 1                                                | ",
+        "SELECT eid FROM event WHERE category = 'Technical' ORDER BY event_date, eid        | idx_event_category_date",
+        "SELECT fid FROM fest WHERE cid = 1                                                 | ",
+        "SELECT tid FROM team WHERE eid = 1 AND tid > 0 ORDER BY tid                        | ",
+        "SELECT tid FROM team_members WHERE sid = 1                                         | ",
+        "SELECT id FROM event_review WHERE event_id = 1 AND student_id = 1                  | ",
+        "SELECT id FROM event_review WHERE event_id = 1 AND id > 0 ORDER BY id              | ",
+        "SELECT id FROM event_review WHERE student_id = 1                                   | "
+    })
+    void finderUsesAnIndex(String query, String index) {
+        String plan = migrated.queryForObject("EXPLAIN " + query, String.class);
+
+        assertThat(plan).as(plan).doesNotContain("tableScan");
+        if (index != null) assertThat(plan).as(plan).containsIgnoringCase(index);
+    }
+}
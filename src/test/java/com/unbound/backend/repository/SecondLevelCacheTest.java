@@ -0,0 +1,100 @@
+package com.unbound.backend.repository;
+
+import com.unbound.backend.entity.College;
+import com.unbound.backend.entity.Event;
+import com.unbound.backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs without a test transaction so every repository call commits, as it does in the controllers
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private Statistics statistics;
+    private College college;
+    private Event event;
+
+    @BeforeEach
+    void seed() {
+        User user = userRepository.save(User.builder()
+                .email("college@test.dev")
+                .password("x")
+                .role(User.Role.College)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+        college = collegeRepository.save(College.builder().user(user).cname("College").build());
+        event = eventRepository.save(Event.builder()
+                .college(college)
+                .ename("Quiz")
+                .eventDate("2025-01-02")
+                .fees(0)
+                .capacity(10)
+                .teamIsAllowed(false)
+                .build());
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        eventRepository.deleteAll();
+        collegeRepository.deleteAll();
+        userRepository.deleteAll();
+        emf.getCache().evictAll();
+    }
+
+    @Test
+    void findByIdIsServedFromTheEntityCache() {
+        // IDENTITY inserts are not put in the cache, so the first read loads the row and caches it
+        eventRepository.findById(event.getEid()).orElseThrow();
+        statistics.clear();
+        eventRepository.findById(event.getEid()).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedListQueryIsInvalidatedByAWrite() {
+        eventRepository.findByCollege(college);
+        eventRepository.findByCollege(college);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        event.setEname("Quiz Finals");
+        eventRepository.save(event);
+        List<Event> events = eventRepository.findByCollege(college);
+
+        assertThat(events).extracting(Event::getEname).containsExactly("Quiz Finals");
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,108 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.*;
+import com.unbound.backend.service.CsvExportService.Dataset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CsvExportService.class)
+class CsvExportServiceTest {
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private CsvExportService csvExportService;
+
+    private Event event;
+    private Student student;
+    private EventRegistration reg;
+
+    @BeforeEach
+    void seed() {
+        College college = em.persist(College.builder().user(user("college@test.dev", User.Role.College)).cname("College").build());
+        event = em.persist(Event.builder()
+                .college(college)
+                .ename("Quiz")
+                .eventDate("2025-01-02")
+                .fees(100)
+                .capacity(10)
+                .teamIsAllowed(false)
+                .build());
+        student = em.persist(Student.builder()
+                .user(user("student@test.dev", User.Role.Student))
+                .college(college)
+                .sname("Asha")
+                .build());
+        reg = em.persist(EventRegistration.builder()
+                .event(event)
+                .student(student)
+                .erdateTime("2025-01-01T10:00")
+                .status("registered")
+                .paymentStatus("paid")
+                .build());
+        em.persist(Payment.builder()
+                .eventRegistration(reg)
+                .razorpayOrderId("order_1")
+                .status("paid")
+                .amount(100)
+                .currency("INR")
+                .createdAt("2025-01-01T10:00")
+                .build());
+        em.persist(EventReview.builder()
+                .event(event)
+                .student(student)
+                .rating(4)
+                .reviewText("Good, \"tough\" questions")
+                .createdAt("2025-01-03T09:00")
+                .build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void writesHeaderAndOneLinePerRow() throws Exception {
+        assertThat(export(Dataset.REGISTRATIONS, List.of(event.getEid()))).containsExactly(
+                "registrationId,eventId,eventName,studentId,studentName,studentEmail,registeredAt,status,paymentStatus,teamId,teamName,certificateApproved",
+                reg.getRid() + "," + event.getEid() + ",Quiz," + student.getSid() + ",Asha,student@test.dev,2025-01-01T10:00,registered,paid,,,false");
+        assertThat(export(Dataset.PAYMENTS, List.of(event.getEid()))).hasSize(2);
+        assertThat(export(Dataset.REVIEWS, List.of(event.getEid())).get(1))
+                .endsWith(",4,\"Good, \"\"tough\"\" questions\",2025-01-03T09:00");
+    }
+
+    @Test
+    void emptyEventListWritesOnlyTheHeader() throws Exception {
+        assertThat(export(Dataset.REVIEWS, List.of())).hasSize(1);
+    }
+
+    @Test
+    void escapesFormulaCells() {
+        assertThat(CsvExportService.escape("=SUM(A1)")).isEqualTo("'=SUM(A1)");
+        assertThat(CsvExportService.escape(-5)).isEqualTo("-5");
+    }
+
+    private List<String> export(Dataset dataset, List<Integer> eventIds) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        csvExportService.write(dataset, eventIds, out);
+        return List.of(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+    }
+
+    private User user(String email, User.Role role) {
+        return em.persist(User.builder()
+                .email(email)
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+    }
+}
@@ -0,0 +1,90 @@
+package com.unbound.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadlineFanOutTest {
+    private final DeadlineFanOut fanOut = new DeadlineFanOut("test-fanout", 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        fanOut.shutdown();
+    }
+
+    @Test
+    void callsRunInParallel() {
+        Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            int n = i;
+            calls.put("call" + i, () -> sleep(300, n));
+        }
+
+        long start = System.nanoTime();
+        Map<String, Object> results = fanOut.invokeAll(calls, 5000, (key, value) -> { });
+
+        assertThat(results).containsOnlyKeys("call0", "call1", "call2", "call3");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    void slowCallIsLeftOutAndReportedLate() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch reported = new CountDownLatch(1);
+        Map<String, Object> late = new ConcurrentHashMap<>();
+        Map<String, Supplier<?>> calls = new LinkedHashMap<>();
+        calls.put("fast", () -> 1);
+        calls.put("slow", () -> {
+            awaitQuietly(release);
+            return 2;
+        });
+        calls.put("broken", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        Map<String, Object> results = fanOut.invokeAll(calls, 200, (key, value) -> {
+            late.put(key, value);
+            reported.countDown();
+        });
+
+        assertThat(results).containsExactly(Map.entry("fast", 1));
+        release.countDown();
+        assertThat(reported.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(late).containsExactly(Map.entry("slow", 2));
+    }
+
+    @Test
+    void zeroThreadsRunsOnTheCaller() {
+        DeadlineFanOut inline = new DeadlineFanOut("inline", 0, 0);
+        Thread caller = Thread.currentThread();
+
+        Map<String, Object> results = inline.invokeAll(Map.of("thread", () -> Thread.currentThread() == caller), 100, (key, value) -> { });
+
+        assertThat(results).containsExactly(Map.entry("thread", true));
+    }
+
+    private static int sleep(long millis, int value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
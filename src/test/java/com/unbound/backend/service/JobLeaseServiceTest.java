@@ -0,0 +1,109 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.JobLease;
+import com.unbound.backend.repository.JobLeaseRepository;
+import com.unbound.backend.repository.JobNodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two services with different node ids stand in for two instances sharing the database; their heartbeat threads
+// are not started, the tests call heartbeat() themselves
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:jobleases;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobLeaseServiceTest {
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    @Autowired
+    private JobNodeRepository jobNodeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JobLeaseService nodeA;
+    private JobLeaseService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        jobLeaseRepository.deleteAll();
+        jobNodeRepository.deleteAll();
+        nodeA = new JobLeaseService(jobLeaseRepository, jobNodeRepository, transactionManager, "node-a", 10000, 30000);
+        nodeB = new JobLeaseService(jobLeaseRepository, jobNodeRepository, transactionManager, "node-b", 10000, 30000);
+    }
+
+    @Test
+    void jobRunsOnceWithinItsMinimumHold() {
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean first = nodeA.runExclusively("nightly", HOUR, runs::incrementAndGet);
+        boolean other = nodeB.runExclusively("nightly", HOUR, runs::incrementAndGet);
+        boolean again = nodeA.runExclusively("nightly", HOUR, runs::incrementAndGet);
+
+        assertThat(first).isTrue();
+        assertThat(other).isFalse();
+        assertThat(again).isFalse();
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void leaseIsHeldWhileTheJobRuns() {
+        AtomicBoolean otherRan = new AtomicBoolean();
+
+        nodeA.runExclusively("long", Duration.ZERO,
+                () -> otherRan.set(nodeB.runExclusively("long", Duration.ZERO, () -> { })));
+
+        assertThat(otherRan).isFalse();
+    }
+
+    @Test
+    void partitionsAreSplitAcrossLiveNodes() {
+        nodeA.heartbeat();
+        nodeB.heartbeat();
+
+        CompletableFuture<List<Integer>> onB = CompletableFuture.supplyAsync(
+                () -> nodeB.runPartitioned("reminders", 4, HOUR, 500, (partition, leaseHeld) -> { }));
+        List<Integer> onA = nodeA.runPartitioned("reminders", 4, HOUR, 500, (partition, leaseHeld) -> { });
+
+        assertThat(onA).containsExactly(0, 2);
+        assertThat(onB.join()).containsExactly(1, 3);
+    }
+
+    @Test
+    void partitionsOfANodeWithoutHeartbeatAreTakenOver() {
+        List<Integer> onA = nodeA.runPartitioned("reminders", 4, HOUR, 500, (partition, leaseHeld) -> { });
+        List<Integer> onB = nodeB.runPartitioned("reminders", 4, HOUR, 500, (partition, leaseHeld) -> { });
+
+        assertThat(onA).containsExactly(0, 1, 2, 3);
+        assertThat(onB).isEmpty();
+    }
+
+    @Test
+    void workIsToldToStopWhenTheHeartbeatFindsTheLeaseTakenOver() {
+        List<Boolean> held = new ArrayList<>();
+
+        nodeA.runPartitioned("reminders", 1, HOUR, 0, (partition, leaseHeld) -> {
+            held.add(leaseHeld.getAsBoolean());
+            JobLease lease = jobLeaseRepository.findById("reminders#0").orElseThrow();
+            lease.setHolder("node-b");
+            jobLeaseRepository.save(lease);
+            nodeA.heartbeat();
+            held.add(leaseHeld.getAsBoolean());
+        });
+
+        assertThat(held).containsExactly(true, false);
+    }
+}
@@ -0,0 +1,182 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.entity.*;
+import com.unbound.backend.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// Payments that settle after the reconciler gave up on them. Not transactional, so the service's own transaction
+// commits and the after-commit receipt goes out; every test seeds its own event.
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:latepayments;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+@Import(PaymentService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LatePaymentTest {
+    private static final AtomicInteger SEQ = new AtomicInteger();
+
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CollegeRepository collegeRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private EmailService emailService;
+    @MockitoBean
+    private PaymentGatewayClient paymentGatewayClient;
+
+    private College college;
+    private Event event;
+
+    @BeforeEach
+    void seed() {
+        college = collegeRepository.save(College.builder()
+                .user(user(User.Role.College))
+                .cname("Test College")
+                .build());
+        event = eventRepository.save(Event.builder()
+                .college(college)
+                .ename("Hackathon")
+                .eventDate("2025-01-02")
+                .fees(100)
+                .capacity(1)
+                .teamIsAllowed(false)
+                .build());
+    }
+
+    @Test
+    void paidAfterExpiryRestoresTheRegistrationWhenASeatIsFree() {
+        EventRegistration late = registration("expired", "failed");
+        Payment payment = payment(late, "failed");
+
+        assertThat(paymentService.updatePaymentStatus(payment.getRazorpayOrderId(), "paid", "pay_late")).isTrue();
+
+        EventRegistration reg = eventRegistrationRepository.findById(late.getRid()).orElseThrow();
+        assertThat(reg.getStatus()).isEqualTo("registered");
+        assertThat(reg.getPaymentStatus()).isEqualTo("paid");
+        verify(emailService).sendEmail(eq(payment.getReceiptEmail()), anyString(), anyString());
+    }
+
+    @Test
+    void paidAfterTheSeatWasGivenAwayIsFlaggedForRefund() {
+        EventRegistration late = registration("expired", "failed");
+        Payment payment = payment(late, "failed");
+        registration("registered", "paid");
+
+        assertThat(paymentService.updatePaymentStatus(payment.getRazorpayOrderId(), "paid", "pay_late")).isTrue();
+
+        EventRegistration reg = eventRegistrationRepository.findById(late.getRid()).orElseThrow();
+        assertThat(reg.getStatus()).isEqualTo("expired");
+        assertThat(reg.getPaymentStatus()).isEqualTo("refund_due");
+        assertThat(paymentRepository.findById(payment.getPid()).orElseThrow().getStatus()).isEqualTo("paid");
+        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void concurrentLatePaymentsTakeTheLastSeatOnce() throws Exception {
+        Payment first = payment(registration("expired", "failed"), "failed");
+        Payment second = payment(registration("expired", "failed"), "failed");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Boolean>> results = List.of(
+                    pool.submit(() -> { start.await(); return paymentService.updatePaymentStatus(first.getRazorpayOrderId(), "paid", "pay_1"); }),
+                    pool.submit(() -> { start.await(); return paymentService.updatePaymentStatus(second.getRazorpayOrderId(), "paid", "pay_2"); }));
+            start.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(eventRegistrationRepository.countByEventAndStatusNot(event, "expired")).isEqualTo(1);
+        assertThat(List.of(first, second)).extracting(p -> p.getEventRegistration().getRid())
+                .map(rid -> eventRegistrationRepository.findById(rid).orElseThrow().getPaymentStatus())
+                .containsExactlyInAnyOrder("paid", "refund_due");
+    }
+
+    @Test
+    void reconcilerLeavesRegistrationsOfPaymentsItDidNotMove() {
+        EventRegistration reg = registration("registered", "pending");
+        Payment payment = payment(reg, "pending");
+        // The client's /verify marks it failed between the reconciler's read and its bulk update
+        paymentService.updatePaymentStatus(payment.getRazorpayOrderId(), "failed", null);
+
+        int[] applied = new TransactionTemplate(transactionManager).execute(status -> new int[] {
+                paymentRepository.bulkTransitionFromPending(List.of(payment.getPid()), "paid"),
+                eventRegistrationRepository.markPaidForPayments(List.of(payment.getPid()))});
+
+        assertThat(applied).containsExactly(0, 0);
+        assertThat(eventRegistrationRepository.findById(reg.getRid()).orElseThrow().getPaymentStatus()).isEqualTo("failed");
+    }
+
+    private EventRegistration registration(String status, String paymentStatus) {
+        Student student = studentRepository.save(Student.builder()
+                .user(user(User.Role.Student))
+                .college(college)
+                .sname("Student")
+                .build());
+        return eventRegistrationRepository.save(EventRegistration.builder()
+                .event(event)
+                .student(student)
+                .erdateTime("2025-01-01T10:00")
+                .status(status)
+                .paymentStatus(paymentStatus)
+                .build());
+    }
+
+    private Payment payment(EventRegistration reg, String status) {
+        return paymentRepository.save(Payment.builder()
+                .eventRegistration(reg)
+                .razorpayOrderId("order_" + SEQ.incrementAndGet())
+                .status(status)
+                .amount(100)
+                .currency("INR")
+                .createdAt("2025-01-01T10:00:00")
+                .receiptEmail("student@test.dev")
+                .build());
+    }
+
+    private User user(User.Role role) {
+        return userRepository.save(User.builder()
+                .email("user" + SEQ.incrementAndGet() + "@test.dev")
+                .password("x")
+                .role(role)
+                .createdAt(new Timestamp(System.currentTimeMillis()))
+                .build());
+    }
+}
@@ -0,0 +1,104 @@
+package com.unbound.backend.service;
+
+import com.unbound.backend.repository.EventRegistrationRepository;
+import com.unbound.backend.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconciliationServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final StubPaymentGatewayClient gateway = new StubPaymentGatewayClient();
+
+    @InjectMocks
+    private PaymentReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "paymentGatewayClient", gateway);
+        ReflectionTestUtils.setField(service, "staleAfterMinutes", 30L);
+        ReflectionTestUtils.setField(service, "expireAfterMinutes", 1440L);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(service, "pauseBetweenBatchesMs", 0L);
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> ((TransactionCallback<?>) inv.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void paidOrdersSettleAndAbandonedOrdersExpire() {
+        String paidOrder = gateway.createOrder(10000, "INR", "reg-1").getString("id");
+        gateway.setOrderStatus(paidOrder, "paid");
+        String abandonedOrder = gateway.createOrder(10000, "INR", "reg-2").getString("id");
+        String recentOrder = gateway.createOrder(10000, "INR", "reg-3").getString("id");
+
+        when(paymentRepository.findStalePending(anyString(), eq(0), any(Pageable.class))).thenReturn(List.of(
+                pending(1, paidOrder, NOW.minusHours(2)),
+                pending(2, abandonedOrder, NOW.minusDays(2)),
+                pending(3, recentOrder, NOW.minusHours(1))));
+        when(paymentRepository.bulkTransitionFromPending(List.of(1), "paid")).thenReturn(1);
+        when(paymentRepository.bulkTransitionFromPending(List.of(2), "failed")).thenReturn(1);
+
+        PaymentReconciliationService.ReconciliationResult result = service.reconcile(NOW, () -> true);
+
+        assertThat(result).isEqualTo(new PaymentReconciliationService.ReconciliationResult(3, 1, 1, 0));
+        verify(eventRegistrationRepository).markPaidForPayments(List.of(1));
+        verify(eventRegistrationRepository).expireUnpaid(List.of(2));
+    }
+
+    @Test
+    void stopsBetweenBatchesOnceTheLeaseIsLost() {
+        ReflectionTestUtils.setField(service, "batchSize", 1);
+        String paidOrder = gateway.createOrder(10000, "INR", "reg-1").getString("id");
+        gateway.setOrderStatus(paidOrder, "paid");
+        when(paymentRepository.findStalePending(anyString(), eq(0), any(Pageable.class)))
+                .thenReturn(List.of(pending(1, paidOrder, NOW.minusHours(2))));
+        when(paymentRepository.bulkTransitionFromPending(List.of(1), "paid")).thenReturn(1);
+        AtomicBoolean leaseHeld = new AtomicBoolean(true);
+        when(eventRegistrationRepository.markPaidForPayments(List.of(1))).thenAnswer(inv -> {
+            leaseHeld.set(false);
+            return 1;
+        });
+
+        PaymentReconciliationService.ReconciliationResult result = service.reconcile(NOW, leaseHeld::get);
+
+        assertThat(result).isEqualTo(new PaymentReconciliationService.ReconciliationResult(1, 1, 0, 0));
+        verify(paymentRepository, never()).findStalePending(anyString(), eq(1), any(Pageable.class));
+    }
+
+    private static PaymentRepository.PendingPayment pending(int pid, String orderId, LocalDateTime createdAt) {
+        return new PaymentRepository.PendingPayment() {
+            public Integer getPid() { return pid; }
+            public String getRazorpayOrderId() { return orderId; }
+            public String getCreatedAt() { return createdAt.format(DateTimeFormatter.ISO_DATE_TIME); }
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.unbound.backend.service;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class PaymentWebhookServiceTest {
+    private final PaymentService paymentService = mock(PaymentService.class);
+    private final PaymentWebhookService webhooks = new PaymentWebhookService(4, 100, 100);
+    private final List<String> applied = new CopyOnWriteArrayList<>();
+    private CountDownLatch calls;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(webhooks, "paymentService", paymentService);
+        doAnswer(invocation -> {
+            String status = invocation.getArgument(1);
+            if ("failed".equals(status)) Thread.sleep(200); // a later event for the order must not overtake this one
+            applied.add(invocation.getArgument(2) + ":" + status);
+            calls.countDown();
+            return true;
+        }).when(paymentService).updatePaymentStatus(anyString(), anyString(), anyString());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        webhooks.shutdown();
+    }
+
+    @Test
+    void duplicateDeliveryIsAppliedOnce() throws InterruptedException {
+        calls = new CountDownLatch(2);
+
+        assertThat(webhooks.submit(webhook("payment.captured", "pay_1", "order_1"))).isTrue();
+        assertThat(webhooks.submit(webhook("payment.captured", "pay_1", "order_1"))).isTrue();
+
+        assertThat(calls.await(1, TimeUnit.SECONDS)).isFalse();
+        assertThat(applied).containsExactly("pay_1:paid");
+    }
+
+    @Test
+    void eventsForTheSameOrderApplyInArrivalOrder() throws InterruptedException {
+        calls = new CountDownLatch(2);
+
+        webhooks.submit(webhook("payment.failed", "pay_1", "order_1"));
+        webhooks.submit(webhook("payment.captured", "pay_2", "order_1"));
+
+        assertThat(calls.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(applied).containsExactly("pay_1:failed", "pay_2:paid");
+    }
+
+    @Test
+    void eventTypesWeDoNotHandleAreAcknowledged() {
+        calls = new CountDownLatch(1);
+
+        assertThat(webhooks.submit(webhook("refund.created", "pay_1", "order_1"))).isTrue();
+        assertThat(applied).isEmpty();
+    }
+
+    private static JSONObject webhook(String event, String paymentId, String orderId) {
+        return new JSONObject()
+                .put("event", event)
+                .put("payload", new JSONObject().put("payment", new JSONObject()
+                        .put("entity", new JSONObject().put("id", paymentId).put("order_id", orderId))));
+    }
+}
@@ -0,0 +1,42 @@
+package com.unbound.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaymentWebhookVerifierTest {
+    private static final byte[] BODY = "{\"event\":\"payment.captured\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final PaymentWebhookVerifier verifier = new PaymentWebhookVerifier("secret");
+
+    @Test
+    void signatureOverTheRawBodyIsAccepted() throws Exception {
+        assertThat(verifier.isValid(BODY, sign("secret", BODY))).isTrue();
+        // Pooled Mac instances are reset between uses
+        assertThat(verifier.isValid(BODY, sign("secret", BODY))).isTrue();
+    }
+
+    @Test
+    void badSignaturesAreRejected() throws Exception {
+        assertThat(verifier.isValid(BODY, sign("other-secret", BODY))).isFalse();
+        assertThat(verifier.isValid("{\"event\":\"order.paid\"}".getBytes(StandardCharsets.UTF_8), sign("secret", BODY))).isFalse();
+        assertThat(verifier.isValid(BODY, "not-hex")).isFalse();
+        assertThat(verifier.isValid(BODY, null)).isFalse();
+    }
+
+    @Test
+    void withoutASecretNothingIsAccepted() throws Exception {
+        assertThat(new PaymentWebhookVerifier("").isValid(BODY, sign("secret", BODY))).isFalse();
+    }
+
+    private static String sign(String secret, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+}
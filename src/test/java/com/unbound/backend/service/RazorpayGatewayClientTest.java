@@ -0,0 +1,80 @@
+package com.unbound.backend.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Against a local HTTP server whose next status and body the test sets
+class RazorpayGatewayClientTest {
+    private static final long OPEN_MS = 50;
+
+    private HttpServer server;
+    private volatile int status;
+    private volatile String body;
+    private RazorpayGatewayClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        client = new RazorpayGatewayClient("key", "secret", "http://localhost:" + server.getAddress().getPort(),
+                1000, 1000, 1, OPEN_MS,
+                new StaticListableBeanFactory(Map.of("meterRegistry", new SimpleMeterRegistry())).getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void nonJsonBodyIsAGatewayError() {
+        respond(200, "<html>Bad gateway</html>");
+
+        assertThatThrownBy(() -> client.fetchOrder("order_1"))
+                .isInstanceOf(PaymentGatewayException.class)
+                .hasMessageContaining("non-JSON");
+    }
+
+    @Test
+    void failedTrialCallReopensTheBreakerAndALaterTrialClosesIt() throws InterruptedException {
+        respond(500, "{}");
+        assertThatThrownBy(() -> client.fetchOrder("order_1")).hasMessageContaining("HTTP 500");
+        assertThatThrownBy(() -> client.fetchOrder("order_1")).hasMessageContaining("circuit open");
+
+        Thread.sleep(OPEN_MS * 2);
+        respond(200, "<html>Bad gateway</html>");
+        assertThatThrownBy(() -> client.fetchOrder("order_1")).hasMessageContaining("non-JSON");
+        assertThatThrownBy(() -> client.fetchOrder("order_1")).hasMessageContaining("circuit open");
+
+        Thread.sleep(OPEN_MS * 2);
+        respond(200, "{\"id\":\"order_1\",\"status\":\"paid\"}");
+        assertThat(client.fetchOrder("order_1").getString("status")).isEqualTo("paid");
+        assertThat(client.fetchOrder("order_1").getString("status")).isEqualTo("paid");
+    }
+
+    private void respond(int status, String body) {
+        this.status = status;
+        this.body = body;
+    }
+}